@@ -1,11 +1,18 @@
 package com.holidaymini;
 
+import com.holidaymini.config.HolidayYearProperties;
 import com.holidaymini.domain.Country;
+import com.holidaymini.service.BusinessDayCalendar;
+import com.holidaymini.service.HolidayDataVersions;
+import com.holidaymini.service.HolidayDateIndex;
+import com.holidaymini.service.HolidayIndex;
+import com.holidaymini.service.HolidayLoadPipeline;
+import com.holidaymini.service.HolidayLoadResult;
+import com.holidaymini.service.HolidaySearchCache;
+import com.holidaymini.service.HolidaySnapshotService;
+import com.holidaymini.service.HolidayYearLoader;
 import com.holidaymini.service.NagerDataLoadService;
-import java.util.List;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,11 +27,16 @@ import org.springframework.stereotype.Component;
 @Profile("!test")
 public class InitialDataLoader implements ApplicationRunner {
 
-    private static final int START_YEAR = 2020;
-    private static final int END_YEAR = 2025;
-
     private final NagerDataLoadService dataLoadService;
-    private final Executor loaderExecutor;
+    private final HolidayLoadPipeline loadPipeline;
+    private final HolidaySnapshotService snapshotService;
+    private final HolidayIndex holidayIndex;
+    private final HolidayDateIndex holidayDateIndex;
+    private final BusinessDayCalendar businessDayCalendar;
+    private final HolidaySearchCache searchCache;
+    private final HolidayDataVersions dataVersions;
+    private final HolidayYearLoader yearLoader;
+    private final HolidayYearProperties yearProperties;
 
     @Value("${data-loader.active}")
     private boolean isActive;
@@ -35,34 +47,66 @@ public class InitialDataLoader implements ApplicationRunner {
             return;
         }
 
+        // 미리 적재할 범위가 비어 있으면 국가만 불러오고 모든 연도는 처음 조회될 때 불러온다
+        int from = yearProperties.preloadFrom();
+        int to = yearProperties.preloadTo();
+        if (from > to) {
+            log.info("미리 적재할 연도 범위가 없어 국가 목록만 불러옵니다.");
+            try {
+                dataLoadService.loadCountries();
+            } catch (Exception e) {
+                log.error("국가 목록 로드 중 오류가 발생했습니다.", e);
+            }
+            return;
+        }
+
+        if (restoreSnapshot(from, to)) {
+            refreshReadModels();
+            return;
+        }
+
         log.info("애플리케이션 시작 시 초기 데이터 로드를 시작합니다.");
         try {
             Set<Country> countries = dataLoadService.loadCountries();
-            for (int year = START_YEAR; year <= END_YEAR; year++) {
-                loadAllByYearAsync(countries, year);
-            }
+            HolidayLoadResult result = loadPipeline.run(countries, from, to);
+            log.info(
+                    "{} - {}년도 초기 데이터 로드가 완료되었습니다. (성공 {}건, 실패 {}건, 공휴일 {}개, {}ms)",
+                    from, to, result.succeeded(), result.failed(), result.rowsWritten(),
+                    result.elapsedMillis()
+            );
+            refreshReadModels();
+            writeSnapshot(from, to, result);
         } catch (Exception e) {
             log.error("초기 데이터 로드 중 오류가 발생했습니다.", e);
         }
     }
 
-    private void loadAllByYearAsync(Set<Country> countries, int year) {
-        var futures = countries.stream()
-                .map(country -> loadCountryDataAsync(country, year))
-                .toList();
-
-        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
-                .join();
+    // 커밋 시점에 드러난 실패까지 받아 시작을 막지 않고 네트워크 적재로 넘어간다
+    private boolean restoreSnapshot(int from, int to) {
+        try {
+            return snapshotService.restore(from, to);
+        } catch (RuntimeException e) {
+            log.warn("스냅샷 복원에 실패해 네트워크에서 적재합니다.", e);
+            return false;
+        }
+    }
 
-        log.info("{}년도 초기 데이터 로드가 성공적으로 완료되었습니다. ({}개 국가)", year, countries.size());
+    // 일부가 빠진 적재를 스냅샷으로 남기면 만료될 때까지 재시작해도 빠진 국가-연도를 다시 불러오지 않는다
+    private void writeSnapshot(int from, int to, HolidayLoadResult result) {
+        if (result.failed() > 0) {
+            log.warn("실패한 국가-연도가 {}건 있어 스냅샷을 저장하지 않습니다.", result.failed());
+            return;
+        }
+        snapshotService.write(from, to);
     }
 
-    private CompletableFuture<Void> loadCountryDataAsync(Country country, int year) {
-        return CompletableFuture
-                .runAsync(() -> dataLoadService.loadHolidaysByCountryAndYear(country, year), loaderExecutor)
-                .exceptionally(ex -> {
-                    log.warn("{}년도 {} 데이터 로드 실패: {}", year, country.getCountryCode(), ex.getMessage());
-                    return null;
-                });
+    // 적재 중에 먼저 읽혀 캐시된 결과와 발급된 ETag가 남지 않도록 인덱스 교체 뒤 함께 비운다
+    private void refreshReadModels() {
+        holidayIndex.rebuildAll();
+        holidayDateIndex.clear();
+        businessDayCalendar.clear();
+        searchCache.invalidateAll();
+        dataVersions.touchAll();
+        yearLoader.clear();
     }
 }
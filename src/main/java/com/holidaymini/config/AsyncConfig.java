@@ -1,22 +1,42 @@
 package com.holidaymini.config;
 
 import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 public class AsyncConfig {
 
+    private static final String THREAD_NAME_PREFIX = "loader-";
+
+    @Value("${data-loader.executor.virtual-threads:false}")
+    private boolean virtualThreads;
+
     @Bean("loaderExecutor")
     public Executor loaderExecutor() {
+        if (virtualThreads) {
+            return virtualLoaderExecutor();
+        }
+        return platformLoaderExecutor();
+    }
+
+    static ThreadPoolTaskExecutor platformLoaderExecutor() {
         ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
         exec.setCorePoolSize(20);
         exec.setMaxPoolSize(40);
         exec.setQueueCapacity(200);
-        exec.setThreadNamePrefix("loader-");
+        exec.setThreadNamePrefix(THREAD_NAME_PREFIX);
         exec.initialize();
         return exec;
     }
 
+    static SimpleAsyncTaskExecutor virtualLoaderExecutor() {
+        SimpleAsyncTaskExecutor exec = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+        exec.setVirtualThreads(true);
+        exec.setTaskTerminationTimeout(30_000);
+        return exec;
+    }
 }
@@ -0,0 +1,38 @@
+package com.holidaymini.config;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 국가별 주말 요일 설정. 따로 지정하지 않은 국가는 기본 주말(토, 일)을 쓴다.
+ */
+@ConfigurationProperties("business-day")
+public record BusinessDayProperties(
+        Set<DayOfWeek> defaultWeekend,
+        Map<String, Set<DayOfWeek>> weekends
+) {
+
+    public BusinessDayProperties {
+        defaultWeekend = defaultWeekend == null || defaultWeekend.isEmpty()
+                ? EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY)
+                : EnumSet.copyOf(defaultWeekend);
+
+        Map<String, Set<DayOfWeek>> normalized = new HashMap<>();
+        if (weekends != null) {
+            weekends.forEach((countryCode, days) -> normalized.put(
+                    countryCode.toUpperCase(Locale.ROOT),
+                    days.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(days)
+            ));
+        }
+        weekends = Map.copyOf(normalized);
+    }
+
+    public Set<DayOfWeek> weekendOf(String countryCode) {
+        return weekends.getOrDefault(countryCode, defaultWeekend);
+    }
+}
@@ -0,0 +1,41 @@
+package com.holidaymini.config;
+
+import com.holidaymini.exception.NotFoundException;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 조회 가능한 연도 범위(min - max)와 시작 시 미리 적재할 범위(preload-from - preload-to).
+ * 미리 적재하지 않은 연도는 lazy-load가 켜져 있으면 처음 조회될 때 불러온다.
+ */
+@ConfigurationProperties("holiday.years")
+public record HolidayYearProperties(
+        @DefaultValue("2020") int min,
+        @DefaultValue("2025") int max,
+        Integer preloadFrom,
+        Integer preloadTo,
+        @DefaultValue("true") boolean lazyLoad
+) {
+
+    public HolidayYearProperties {
+        if (min > max) {
+            throw new IllegalArgumentException("holiday.years.min이 max보다 큽니다: " + min + " > " + max);
+        }
+        preloadFrom = preloadFrom != null ? Math.max(preloadFrom, min) : min;
+        preloadTo = preloadTo != null ? Math.min(preloadTo, max) : max;
+    }
+
+    public boolean contains(int year) {
+        return min <= year && year <= max;
+    }
+
+    public void validate(int year) {
+        if (!contains(year)) {
+            throw new NotFoundException(min + " - " + max + "년 범위 외의 연도입니다.");
+        }
+    }
+
+    public int size() {
+        return max - min + 1;
+    }
+}
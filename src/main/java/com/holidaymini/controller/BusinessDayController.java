@@ -0,0 +1,56 @@
+package com.holidaymini.controller;
+
+import com.holidaymini.controller.dto.BusinessDayAddResponse;
+import com.holidaymini.controller.dto.BusinessDayCountResponse;
+import com.holidaymini.controller.dto.BusinessDayResponse;
+import com.holidaymini.service.BusinessDayService;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/business-days")
+@RequiredArgsConstructor
+public class BusinessDayController {
+
+    private final BusinessDayService businessDayService;
+
+    @GetMapping
+    public BusinessDayResponse isBusinessDay(
+            @RequestParam String countryCode,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "false") boolean officialOnly
+    ) {
+        boolean businessDay = businessDayService.isBusinessDay(countryCode, date, officialOnly);
+
+        return new BusinessDayResponse(countryCode, date, businessDay);
+    }
+
+    @GetMapping("/add")
+    public BusinessDayAddResponse addBusinessDays(
+            @RequestParam String countryCode,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam int days,
+            @RequestParam(defaultValue = "false") boolean officialOnly
+    ) {
+        LocalDate result = businessDayService.addBusinessDays(countryCode, date, days, officialOnly);
+
+        return new BusinessDayAddResponse(countryCode, date, days, result);
+    }
+
+    @GetMapping("/count")
+    public BusinessDayCountResponse countBusinessDays(
+            @RequestParam String countryCode,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean officialOnly
+    ) {
+        int count = businessDayService.countBusinessDays(countryCode, from, to, officialOnly);
+
+        return new BusinessDayCountResponse(countryCode, from, to, count);
+    }
+}
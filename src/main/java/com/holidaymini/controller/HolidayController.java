@@ -1,29 +1,51 @@
 package com.holidaymini.controller;
 
+import com.holidaymini.controller.dto.CountryHolidaysResponse;
+import com.holidaymini.controller.dto.CursorResponse;
+import com.holidaymini.controller.dto.HolidayBatchSearchRequest;
+import com.holidaymini.controller.dto.HolidayLookupRequest;
+import com.holidaymini.controller.dto.HolidayLookupResponse;
 import com.holidaymini.controller.dto.HolidayResponse;
 import com.holidaymini.controller.dto.HolidaySearchFilter;
+import com.holidaymini.controller.dto.HolidayUpsertResponse;
 import com.holidaymini.controller.dto.PageResponse;
-import com.holidaymini.domain.Holiday;
+import com.holidaymini.domain.HolidayType;
+import com.holidaymini.repository.dto.HolidayExportCondition;
+import com.holidaymini.service.HolidayCborEncoder;
+import com.holidaymini.service.HolidayExportFormat;
+import com.holidaymini.service.HolidayExportService;
+import com.holidaymini.service.HolidayMergeResult;
+import com.holidaymini.service.HolidayPageBytesCache;
+import com.holidaymini.service.HolidayPageBytesCache.SerializedPage;
+import com.holidaymini.service.HolidayScroll;
 import com.holidaymini.service.HolidayService;
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.Max;
-import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/holidays")
@@ -31,34 +53,228 @@ import org.springframework.web.bind.annotation.RestController;
 public class HolidayController {
 
     private final HolidayService holidayService;
+    private final HolidayExportService holidayExportService;
+    private final HolidayPageBytesCache pageBytesCache;
+    private final HolidayCborEncoder cborEncoder;
+
+    @GetMapping
+    public ResponseEntity<?> getHolidays(
+            @Valid HolidaySearchFilter request,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "date,asc") String[] sort,
+            @RequestHeader HttpHeaders headers
+    ) {
+        return conditionalSearch(request, page, size, sort, headers, true);
+    }
 
     @PostMapping
-    public PageResponse<HolidayResponse> searchHolidays(
+    public ResponseEntity<?> searchHolidays(
             @RequestBody @Valid HolidaySearchFilter request,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "date,asc") String[] sort
+            @RequestParam(defaultValue = "date,asc") String[] sort,
+            @RequestHeader HttpHeaders headers
+    ) {
+        return conditionalSearch(request, page, size, sort, headers, false);
+    }
+
+    // 버전은 검색보다 먼저 읽는다. 그 사이 데이터가 바뀌면 새 본문에 이전 ETag가 붙을 뿐이라 다음 요청에서 다시 받는다
+    private ResponseEntity<?> conditionalSearch(
+            HolidaySearchFilter request,
+            int page,
+            int size,
+            String[] sort,
+            HttpHeaders headers,
+            boolean checkModifiedSince
     ) {
+        long version = holidayService.dataVersion(request);
+        boolean cbor = prefersCbor(headers);
+        String eTag = searchETag(version, request, page, size, sort);
+        if (cbor) {
+            eTag = variantETag(eTag, "cbor");
+        }
+        String matched = notModified(headers, eTag, version, checkModifiedSince);
+        if (matched != null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(matched)
+                    .lastModified(version)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
         Pageable pageable = createPageable(page, size, sort);
-        Page<Holiday> holidayPage = holidayService.searchHolidays(request, pageable);
-
-        List<HolidayResponse> content = holidayPage.getContent()
-                .stream()
-                .map(h -> new HolidayResponse(
-                        h.getId(),
-                        h.getName(),
-                        h.getDetail().getLocalName(),
-                        h.getDate(),
-                        h.getYear(),
-                        h.getCountry().getCountryCode(),
-                        h.getCountry().getName(),
-                        h.getDetail().getIsFixed(),
-                        h.getDetail().getIsGlobal(),
-                        h.getDetail().getTypes()
-                ))
-                .toList();
-
-        return new PageResponse<>(content, holidayPage);
+        if (cbor) {
+            return cborSearch(request, pageable, version, eTag);
+        }
+        if (HolidayPageBytesCache.cacheable(request)) {
+            return serializedSearch(request, pageable, version, eTag, headers);
+        }
+
+        Page<HolidayResponse> holidayPage = holidayService.searchHolidays(request, pageable);
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(version)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(new PageResponse<>(holidayPage));
+    }
+
+    private ResponseEntity<byte[]> cborSearch(HolidaySearchFilter request, Pageable pageable, long version, String eTag) {
+        Page<HolidayResponse> holidayPage = holidayService.searchHolidays(request, pageable);
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(version)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(MediaType.APPLICATION_CBOR)
+                .body(cborEncoder.encodePage(request, holidayPage));
+    }
+
+    // 국가-연도 전체 조회는 직렬화해 둔 바이트를 그대로 쓴다. gzip 표현은 ETag를 따로 둔다
+    private ResponseEntity<byte[]> serializedSearch(
+            HolidaySearchFilter request,
+            Pageable pageable,
+            long version,
+            String eTag,
+            HttpHeaders headers
+    ) {
+        SerializedPage serialized = pageBytesCache.get(request, version, pageable,
+                () -> new PageResponse<>(holidayService.searchHolidays(request, pageable)));
+        boolean gzip = serialized.gzip() != null && acceptsGzip(headers);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(gzip ? variantETag(eTag, "gzip") : eTag)
+                .lastModified(version)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? serialized.gzip() : serialized.json());
+    }
+
+    private static String searchETag(long version, HolidaySearchFilter request, int page, int size, String[] sort) {
+        String query = String.join("|",
+                request.countryCode(),
+                String.valueOf(request.year()),
+                String.valueOf(request.startDate()),
+                String.valueOf(request.endDate()),
+                String.valueOf(request.type()),
+                String.valueOf(page),
+                String.valueOf(size),
+                String.join(",", sort)
+        );
+        String digest = DigestUtils.md5DigestAsHex(query.getBytes(StandardCharsets.UTF_8));
+        return "\"" + Long.toHexString(version) + "-" + digest + "\"";
+    }
+
+    // 일치하면 응답에 돌려줄 ETag(gzip 표현이면 그 ETag)를, 아니면 null을 반환한다
+    private static String notModified(HttpHeaders headers, String eTag, long version, boolean checkModifiedSince) {
+        List<String> ifNoneMatch = headers.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            for (String tag : ifNoneMatch) {
+                String opaque = tag.startsWith("W/") ? tag.substring(2) : tag;
+                if (opaque.equals("*") || opaque.equals(eTag)) {
+                    return eTag;
+                }
+                if (opaque.equals(variantETag(eTag, "gzip"))) {
+                    return opaque;
+                }
+            }
+            return null;
+        }
+
+        // Last-Modified는 초 단위로 나가므로 버전도 초 단위로 잘라 비교한다
+        long ifModifiedSince = headers.getIfModifiedSince();
+        boolean unchanged = checkModifiedSince && ifModifiedSince >= 0 && version / 1000 * 1000 <= ifModifiedSince;
+        return unchanged ? eTag : null;
+    }
+
+    // 같은 데이터의 다른 표현(gzip, CBOR)은 바이트가 다르므로 강한 ETag도 달라야 한다
+    private static String variantETag(String eTag, String variant) {
+        return eTag.substring(0, eTag.length() - 1) + "-" + variant + "\"";
+    }
+
+    // Accept에 CBOR가 명시되어 있고 JSON보다 품질 값이 낮지 않을 때만 CBOR로 응답한다. 와일드카드는 JSON으로 본다
+    private static boolean prefersCbor(HttpHeaders headers) {
+        double cbor = 0;
+        double json = 0;
+        for (MediaType mediaType : headers.getAccept()) {
+            if (mediaType.isWildcardSubtype()) {
+                continue;
+            }
+            if (MediaType.APPLICATION_CBOR.isCompatibleWith(mediaType)) {
+                cbor = Math.max(cbor, mediaType.getQualityValue());
+            } else if (MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)) {
+                json = Math.max(json, mediaType.getQualityValue());
+            }
+        }
+        return cbor > 0 && cbor >= json;
+    }
+
+    private static boolean acceptsGzip(HttpHeaders headers) {
+        for (String value : headers.getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+            for (String coding : value.split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (parts[0].trim().equalsIgnoreCase("gzip")
+                        && (parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @PostMapping("/scroll")
+    public CursorResponse<HolidayResponse> scrollHolidays(
+            @RequestBody @Valid HolidaySearchFilter request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        HolidayScroll scroll = holidayService.scrollHolidays(request, cursor, size);
+        String nextCursor = scroll.hasNext() ? scroll.next().encode() : null;
+
+        return new CursorResponse<>(scroll.content(), nextCursor, scroll.hasNext());
+    }
+
+    @PostMapping("/batch")
+    public List<CountryHolidaysResponse> searchBatch(@RequestBody @Valid HolidayBatchSearchRequest request) {
+        return holidayService.searchBatch(request);
+    }
+
+    @PostMapping("/lookup")
+    public HolidayLookupResponse lookupHolidays(@RequestBody @Valid HolidayLookupRequest request) {
+        boolean[] holidays = holidayService.lookupHolidays(request);
+
+        return new HolidayLookupResponse(holidays.length, holidays);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) List<String> countryCode,
+            @RequestParam(required = false) List<Integer> year,
+            @RequestParam(required = false) HolidayType type,
+            @RequestParam(required = false) String format,
+            @RequestHeader HttpHeaders headers
+    ) {
+        HolidayExportFormat exportFormat = format != null
+                ? HolidayExportFormat.from(format)
+                : HolidayExportFormat.negotiate(headers.getAccept());
+        HolidayExportCondition condition = holidayExportService.prepare(countryCode, year, type);
+        StreamingResponseBody body = out -> holidayExportService.export(condition, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("holidays." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
     }
 
     private Pageable createPageable(int page, int size, String[] sort) {
@@ -76,12 +292,12 @@ public class HolidayController {
     }
 
     @PatchMapping
-    public ResponseEntity<Void> upsert(
+    public ResponseEntity<HolidayUpsertResponse> upsert(
             @RequestParam @NotBlank(message = "국가 코드는 필수입니다") String countryCode,
-            @RequestParam @NotNull(message = "연도는 필수입니다") @Min(2020) @Max(2025) Integer year) {
-        holidayService.upsertByCountryCodeAndYear(countryCode, year);
+            @RequestParam @NotNull(message = "연도는 필수입니다") Integer year) {
+        HolidayMergeResult result = holidayService.upsertByCountryCodeAndYear(countryCode, year);
 
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(new HolidayUpsertResponse(result.added(), result.updated(), result.removed()));
     }
 
     @DeleteMapping
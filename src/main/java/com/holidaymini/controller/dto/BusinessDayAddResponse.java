@@ -0,0 +1,12 @@
+package com.holidaymini.controller.dto;
+
+import java.time.LocalDate;
+
+public record BusinessDayAddResponse(
+        String countryCode,
+        LocalDate date,
+        int days,
+        LocalDate result
+) {
+
+}
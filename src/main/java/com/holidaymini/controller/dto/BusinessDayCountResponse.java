@@ -0,0 +1,12 @@
+package com.holidaymini.controller.dto;
+
+import java.time.LocalDate;
+
+public record BusinessDayCountResponse(
+        String countryCode,
+        LocalDate from,
+        LocalDate to,
+        int count
+) {
+
+}
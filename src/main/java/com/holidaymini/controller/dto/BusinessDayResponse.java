@@ -0,0 +1,11 @@
+package com.holidaymini.controller.dto;
+
+import java.time.LocalDate;
+
+public record BusinessDayResponse(
+        String countryCode,
+        LocalDate date,
+        boolean businessDay
+) {
+
+}
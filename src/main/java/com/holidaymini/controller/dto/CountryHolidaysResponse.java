@@ -0,0 +1,11 @@
+package com.holidaymini.controller.dto;
+
+import java.util.List;
+
+public record CountryHolidaysResponse(
+        String countryCode,
+        String countryName,
+        List<HolidayResponse> holidays
+) {
+
+}
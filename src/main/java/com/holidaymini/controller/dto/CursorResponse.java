@@ -0,0 +1,11 @@
+package com.holidaymini.controller.dto;
+
+import java.util.List;
+
+public record CursorResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+
+}
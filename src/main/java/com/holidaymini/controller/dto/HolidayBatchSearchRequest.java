@@ -0,0 +1,23 @@
+package com.holidaymini.controller.dto;
+
+import com.holidaymini.domain.HolidayType;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record HolidayBatchSearchRequest(
+        @NotEmpty
+        @Size(max = 50)
+        List<String> countryCodes,
+
+        @NotNull
+        Integer startYear,
+
+        @NotNull
+        Integer endYear,
+
+        HolidayType type
+) {
+
+}
@@ -0,0 +1,25 @@
+package com.holidaymini.controller.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.util.List;
+
+public record HolidayLookupRequest(
+        @NotEmpty
+        @Size(max = 100_000)
+        List<@Valid @NotNull Item> items
+) {
+
+    public record Item(
+            @NotNull
+            String countryCode,
+
+            @NotNull
+            LocalDate date
+    ) {
+
+    }
+}
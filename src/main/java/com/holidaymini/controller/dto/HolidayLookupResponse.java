@@ -0,0 +1,9 @@
+package com.holidaymini.controller.dto;
+
+// holidays[i]는 요청의 items[i]가 공휴일인지 여부다
+public record HolidayLookupResponse(
+        int count,
+        boolean[] holidays
+) {
+
+}
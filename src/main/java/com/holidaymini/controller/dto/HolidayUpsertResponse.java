@@ -0,0 +1,9 @@
+package com.holidaymini.controller.dto;
+
+public record HolidayUpsertResponse(
+        int added,
+        int updated,
+        int removed
+) {
+
+}
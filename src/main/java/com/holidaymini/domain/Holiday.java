@@ -21,15 +21,13 @@ import lombok.NoArgsConstructor;
 @Table(indexes = {
         @Index(name = "idx_holiday_country_year", columnList = "country_id, holiday_year"),
         @Index(name = "idx_holiday_date", columnList = "holiday_date"),
-        @Index(name = "idx_holiday_country_date", columnList = "country_id, holiday_date")
+        @Index(name = "idx_holiday_country_date", columnList = "country_id, holiday_date"),
+        @Index(name = "idx_holiday_country_year_type", columnList = "country_id, holiday_year, type_mask")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Holiday extends BaseTimeEntity {
 
-    private static final LocalDate LOWER_DATE_BOUND = LocalDate.of(2020, 1, 1);
-    private static final LocalDate UPPER_DATE_BOUND = LocalDate.of(2025, 12, 31);
-
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "holiday_id")
@@ -52,7 +50,6 @@ public class Holiday extends BaseTimeEntity {
     private HolidayDetail detail;
 
     public Holiday(Country country, LocalDate date, String name, HolidayDetail detail) {
-        validateDate(date);
         this.country = country;
         this.date = date;
         this.name = name;
@@ -60,12 +57,6 @@ public class Holiday extends BaseTimeEntity {
         this.detail = detail;
     }
 
-    private void validateDate(LocalDate date) {
-        if (date.isBefore(LOWER_DATE_BOUND) || date.isAfter(UPPER_DATE_BOUND)) {
-            throw new IllegalArgumentException("가능 연도: " + LOWER_DATE_BOUND + " - " + UPPER_DATE_BOUND);
-        }
-    }
-
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof Holiday holiday)) {
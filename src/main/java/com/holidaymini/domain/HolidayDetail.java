@@ -1,13 +1,8 @@
 package com.holidaymini.domain;
 
-import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
-import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Embeddable;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
-import jakarta.persistence.FetchType;
-import jakarta.persistence.JoinColumn;
+import java.util.EnumSet;
 import java.util.Set;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -27,10 +22,9 @@ public class HolidayDetail {
     @Column(nullable = false)
     private Boolean isGlobal;
 
-    @ElementCollection(fetch = FetchType.LAZY)
-    @CollectionTable(name = "holiday_types", joinColumns = @JoinColumn(name = "holiday_id"))
-    @Enumerated(EnumType.STRING)
-    private Set<HolidayType> types;
+    // 여섯 가지뿐인 유형을 별도 테이블 대신 HolidayType.mask() 비트의 합으로 저장한다
+    @Column(name = "type_mask", nullable = false)
+    private int typeMask;
 
     public HolidayDetail(
             Boolean isFixed,
@@ -41,6 +35,10 @@ public class HolidayDetail {
         this.isFixed = isFixed;
         this.isGlobal = isGlobal;
         this.localName = localName;
-        this.types = types;
+        this.typeMask = HolidayType.toMask(types);
+    }
+
+    public EnumSet<HolidayType> getTypes() {
+        return HolidayType.fromMask(typeMask);
     }
 }
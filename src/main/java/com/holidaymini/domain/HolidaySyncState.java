@@ -0,0 +1,81 @@
+package com.holidaymini.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_sync_state_country_year",
+        columnNames = {"country_code", "sync_year"}
+))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HolidaySyncState extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sync_state_id")
+    private Long id;
+
+    @Column(name = "country_code", nullable = false)
+    private String countryCode;
+
+    @Column(name = "sync_year", nullable = false)
+    private Integer year;
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    private String etag;
+
+    private String lastModified;
+
+    public HolidaySyncState(String countryCode, int year, String fingerprint, String etag, String lastModified) {
+        this.countryCode = countryCode;
+        this.year = year;
+        this.fingerprint = fingerprint;
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    public boolean hasFingerprint(String fingerprint) {
+        return Objects.equals(this.fingerprint, fingerprint);
+    }
+
+    public void update(String fingerprint, String etag, String lastModified) {
+        this.fingerprint = fingerprint;
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof HolidaySyncState that)) {
+            return false;
+        }
+        return Objects.equals(countryCode, that.countryCode) && Objects.equals(year, that.year);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(countryCode, year);
+    }
+
+    @Override
+    public String toString() {
+        return "HolidaySyncState{" +
+                "countryCode='" + countryCode + '\'' +
+                ", year=" + year +
+                ", fingerprint='" + fingerprint + '\'' +
+                '}';
+    }
+}
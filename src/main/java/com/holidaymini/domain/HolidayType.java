@@ -1,6 +1,10 @@
 package com.holidaymini.domain;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
 import lombok.Getter;
 
 @Getter
@@ -26,4 +30,38 @@ public enum HolidayType {
                 .findFirst()
                 .orElse(PUBLIC);
     }
+
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    public static int toMask(Collection<HolidayType> types) {
+        int mask = 0;
+        for (HolidayType type : types) {
+            mask |= type.mask();
+        }
+        return mask;
+    }
+
+    public static EnumSet<HolidayType> fromMask(int mask) {
+        EnumSet<HolidayType> types = EnumSet.noneOf(HolidayType.class);
+        for (HolidayType type : values()) {
+            if ((mask & type.mask()) != 0) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    // 비트 연산은 인덱스를 탈 수 없어서, 해당 비트를 포함하는 모든 마스크 값을 IN 조건으로 넘긴다
+    public static List<Integer> masksContaining(HolidayType type) {
+        int allTypes = (1 << values().length) - 1;
+        List<Integer> masks = new ArrayList<>(1 << (values().length - 1));
+        for (int mask = 1; mask <= allTypes; mask++) {
+            if ((mask & type.mask()) != 0) {
+                masks.add(mask);
+            }
+        }
+        return masks;
+    }
 }
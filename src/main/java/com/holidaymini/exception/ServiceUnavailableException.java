@@ -0,0 +1,14 @@
+package com.holidaymini.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class ServiceUnavailableException extends HolidayMiniCustomException {
+
+    private static final HttpStatus STATUS = HttpStatus.SERVICE_UNAVAILABLE;
+
+    public ServiceUnavailableException(String message) {
+        super(STATUS, message);
+    }
+}
@@ -1,8 +1,15 @@
 package com.holidaymini.external.config;
 
+import com.holidaymini.external.resilience.AimdLimiter;
+import com.holidaymini.external.resilience.CircuitBreaker;
+import com.holidaymini.external.resilience.RetryBackoff;
+import com.holidaymini.external.resilience.UpstreamGuard;
+import java.net.http.HttpClient;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 @Configuration
@@ -11,10 +18,68 @@ public class RestClientConfig {
     @Value("${nager.api.base-url}")
     private String baseUrl;
 
+    @Value("${nager.api.connect-timeout:3s}")
+    private Duration connectTimeout;
+
+    @Value("${nager.api.read-timeout:10s}")
+    private Duration readTimeout;
+
+    @Value("${nager.api.max-connections-per-host:64}")
+    private int maxConnectionsPerHost;
+
+    @Value("${nager.api.concurrency.initial-limit:8}")
+    private int initialLimit;
+
+    @Value("${nager.api.concurrency.min-limit:1}")
+    private int minLimit;
+
+    @Value("${nager.api.concurrency.backoff-ratio:0.7}")
+    private double backoffRatio;
+
+    @Value("${nager.api.retry.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${nager.api.retry.base-delay:200ms}")
+    private Duration retryBaseDelay;
+
+    @Value("${nager.api.retry.max-delay:5s}")
+    private Duration retryMaxDelay;
+
+    @Value("${nager.api.circuit-breaker.failure-threshold:10}")
+    private int failureThreshold;
+
+    @Value("${nager.api.circuit-breaker.open-duration:30s}")
+    private Duration openDuration;
+
+    // 동기 RestClient와 비동기 클라이언트가 같은 커넥션 풀(HTTP/2 멀티플렉싱 포함)을 공유한다
+    @Bean
+    public HttpClient nagerHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    // 동시 요청 한도는 max-connections-per-host를 상한으로 upstream 응답에 맞춰 스스로 조정된다
     @Bean
-    public RestClient restClient() {
-        return RestClient.builder()
+    public UpstreamGuard nagerUpstreamGuard() {
+        return new UpstreamGuard(
+                new AimdLimiter(initialLimit, minLimit, maxConnectionsPerHost, backoffRatio),
+                new RetryBackoff(maxAttempts, retryBaseDelay, retryMaxDelay),
+                new CircuitBreaker(failureThreshold, openDuration)
+        );
+    }
+
+    // 자동 구성된 Builder를 써야 http.client.requests 관측 지표가 함께 기록된다
+    @Bean
+    public RestClient restClient(RestClient.Builder restClientBuilder, HttpClient nagerHttpClient) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(nagerHttpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        return restClientBuilder
                 .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
                 .build();
     }
 }
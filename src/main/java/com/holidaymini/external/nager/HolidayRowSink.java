@@ -0,0 +1,9 @@
+package com.holidaymini.external.nager;
+
+import java.time.LocalDate;
+
+@FunctionalInterface
+public interface HolidayRowSink {
+
+    void accept(LocalDate date, String name, String localName, boolean fixed, boolean global, int typeMask);
+}
@@ -0,0 +1,66 @@
+package com.holidaymini.external.nager;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.holidaymini.domain.HolidayType;
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * 공휴일 배열을 토큰 단위로 읽어 한 건씩 {@link HolidayRowSink}로 넘긴다. 응답 DTO나 타입 Set을 만들지 않는다.
+ */
+final class HolidayStreamDecoder {
+
+    private HolidayStreamDecoder() {
+    }
+
+    static int decode(JsonParser parser, HolidayRowSink sink) throws IOException {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "공휴일 응답이 배열이 아닙니다.");
+        }
+
+        int count = 0;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            LocalDate date = null;
+            String name = null;
+            String localName = null;
+            boolean fixed = false;
+            boolean global = false;
+            int typeMask = 0;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "date" -> date = LocalDate.parse(parser.getText());
+                    case "name" -> name = parser.getValueAsString();
+                    case "localName" -> localName = parser.getValueAsString();
+                    case "fixed" -> fixed = value == JsonToken.VALUE_TRUE;
+                    case "global" -> global = value == JsonToken.VALUE_TRUE;
+                    case "types" -> typeMask = readTypeMask(parser, value);
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (date == null) {
+                throw new JsonParseException(parser, "date 필드가 없는 공휴일 응답입니다.");
+            }
+            sink.accept(date, name, localName, fixed, global, typeMask);
+            count++;
+        }
+        return count;
+    }
+
+    private static int readTypeMask(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            return 0;
+        }
+
+        int mask = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            mask |= HolidayType.convert(parser.getText()).mask();
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,239 @@
+package com.holidaymini.external.nager;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holidaymini.exception.HolidayMiniCustomException;
+import com.holidaymini.exception.InternalServerException;
+import com.holidaymini.exception.ServiceUnavailableException;
+import com.holidaymini.external.nager.dto.CountryResponse;
+import com.holidaymini.external.nager.dto.HolidayFetchResult;
+import com.holidaymini.external.nager.dto.HolidayStreamResult;
+import com.holidaymini.external.nager.dto.PublicHolidayResponse;
+import com.holidaymini.external.resilience.RetryableUpstreamException;
+import com.holidaymini.external.resilience.UpstreamGuard;
+import com.holidaymini.metrics.LoaderMetrics;
+import io.micrometer.core.instrument.Timer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriBuilderFactory;
+
+@Slf4j
+@Component
+public class NagerAsyncClient {
+
+    private static final String GZIP = "gzip";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final UriBuilderFactory uriBuilderFactory;
+    private final UpstreamGuard upstreamGuard;
+    private final LoaderMetrics loaderMetrics;
+    private final Duration readTimeout;
+    private final JavaType countriesType;
+    private final JavaType holidaysType;
+
+    public NagerAsyncClient(
+            HttpClient nagerHttpClient,
+            ObjectMapper objectMapper,
+            UpstreamGuard nagerUpstreamGuard,
+            LoaderMetrics loaderMetrics,
+            @Value("${nager.api.base-url}") String baseUrl,
+            @Value("${nager.api.read-timeout:10s}") Duration readTimeout
+    ) {
+        this.httpClient = nagerHttpClient;
+        this.objectMapper = objectMapper;
+        this.uriBuilderFactory = new DefaultUriBuilderFactory(baseUrl);
+        this.upstreamGuard = nagerUpstreamGuard;
+        this.loaderMetrics = loaderMetrics;
+        this.readTimeout = readTimeout;
+        this.countriesType = objectMapper.getTypeFactory().constructCollectionType(List.class, CountryResponse.class);
+        this.holidaysType = objectMapper.getTypeFactory().constructCollectionType(List.class, PublicHolidayResponse.class);
+    }
+
+    public CompletableFuture<List<CountryResponse>> getAvailableCountries() {
+        String contextMsg = "국가 목록 조회 실패";
+        NagerApiEndpoint endpoint = NagerApiEndpoint.GET_AVAILABLE_COUNTRIES;
+        URI uri = uriBuilderFactory.expand(endpoint.getUrl());
+
+        return send(endpoint, request(uri).build(), contextMsg, response -> {
+            if (isClientError(response, contextMsg)) {
+                return List.of();
+            }
+            return decode(response, countriesType);
+        });
+    }
+
+    public CompletableFuture<HolidayFetchResult> getPublicHolidays(
+            int year,
+            String countryCode,
+            String etag,
+            String lastModified
+    ) {
+        String contextMsg = "공휴일 조회 실패";
+        NagerApiEndpoint endpoint = NagerApiEndpoint.GET_PUBLIC_HOLIDAYS;
+        URI uri = uriBuilderFactory.expand(endpoint.getUrl(), year, countryCode);
+
+        return send(endpoint, conditionalRequest(uri, etag, lastModified), contextMsg, response -> {
+            if (response.statusCode() == HttpStatus.NOT_MODIFIED.value()) {
+                return HolidayFetchResult.notModified(etag, lastModified);
+            }
+            requireSuccess(response, contextMsg);
+            List<PublicHolidayResponse> holidays = decode(response, holidaysType);
+            return HolidayFetchResult.modified(
+                    holidays,
+                    response.headers().firstValue(HttpHeaders.ETAG).orElse(null),
+                    response.headers().firstValue(HttpHeaders.LAST_MODIFIED).orElse(null)
+            );
+        });
+    }
+
+    public CompletableFuture<HolidayStreamResult> streamPublicHolidays(
+            int year,
+            String countryCode,
+            String etag,
+            String lastModified,
+            HolidayRowSink sink
+    ) {
+        String contextMsg = "공휴일 조회 실패";
+        NagerApiEndpoint endpoint = NagerApiEndpoint.GET_PUBLIC_HOLIDAYS;
+        URI uri = uriBuilderFactory.expand(endpoint.getUrl(), year, countryCode);
+
+        return send(endpoint, conditionalRequest(uri, etag, lastModified), contextMsg, response -> {
+            if (response.statusCode() == HttpStatus.NOT_MODIFIED.value()) {
+                return new HolidayStreamResult(true, 0, etag, lastModified);
+            }
+            requireSuccess(response, contextMsg);
+            if (response.body() == null || response.body().length == 0) {
+                return new HolidayStreamResult(false, 0, null, null);
+            }
+            Timer.Sample sample = loaderMetrics.startTimer();
+            try (JsonParser parser = objectMapper.getFactory().createParser(open(response))) {
+                int count = HolidayStreamDecoder.decode(parser, sink);
+                loaderMetrics.recordStage(LoaderMetrics.STAGE_DECODE, sample);
+                return new HolidayStreamResult(
+                        false,
+                        count,
+                        response.headers().firstValue(HttpHeaders.ETAG).orElse(null),
+                        response.headers().firstValue(HttpHeaders.LAST_MODIFIED).orElse(null)
+                );
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    private HttpRequest conditionalRequest(URI uri, String etag, String lastModified) {
+        HttpRequest.Builder request = request(uri);
+        if (etag != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, etag);
+        }
+        if (lastModified != null) {
+            request.header(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        }
+        return request.build();
+    }
+
+    private HttpRequest.Builder request(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(readTimeout)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT_ENCODING, GZIP)
+                .GET();
+    }
+
+    private <T> CompletableFuture<T> send(
+            NagerApiEndpoint endpoint,
+            HttpRequest request,
+            String contextMsg,
+            Function<HttpResponse<byte[]>, T> handler
+    ) {
+        return upstreamGuard.callAsync(contextMsg, () -> {
+                    long startedAt = System.nanoTime();
+                    return httpClient
+                            .sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                            .handle((response, ex) -> {
+                                String status = ex != null ? "IO_ERROR" : String.valueOf(response.statusCode());
+                                loaderMetrics.recordUpstream(endpoint.getUrl(), status, System.nanoTime() - startedAt);
+
+                                if (ex != null) {
+                                    throw new RetryableUpstreamException(contextMsg + " - 연결 실패", unwrap(ex));
+                                }
+                                if (RetryableUpstreamException.isRetryableStatus(response.statusCode())) {
+                                    throw new RetryableUpstreamException(response.statusCode());
+                                }
+                                return response;
+                            });
+                })
+                .thenApply(handler)
+                .exceptionally(ex -> {
+                    Throwable cause = unwrap(ex);
+                    if (cause instanceof HolidayMiniCustomException e) {
+                        throw e;
+                    }
+                    log.error("{} 중 예기치 못한 오류 발생: {}", contextMsg, cause.toString());
+                    throw new InternalServerException(contextMsg + " 중 오류가 발생했습니다.");
+                });
+    }
+
+    private boolean isClientError(HttpResponse<byte[]> response, String contextMsg) {
+        if (response.statusCode() >= 400) {
+            log.warn("{} - 클라이언트 오류: {}", contextMsg, response.statusCode());
+            return true;
+        }
+        return false;
+    }
+
+    // 공휴일 응답의 4xx를 빈 연도로 받으면 저장된 공휴일을 지우거나 빈 동기화 이력을 남기므로 실패로 끝낸다
+    private void requireSuccess(HttpResponse<byte[]> response, String contextMsg) {
+        if (isClientError(response, contextMsg)) {
+            throw new ServiceUnavailableException(
+                    contextMsg + " - 외부 API 응답을 사용할 수 없습니다. (" + response.statusCode() + ")"
+            );
+        }
+    }
+
+    private <T> T decode(HttpResponse<byte[]> response, JavaType type) {
+        byte[] body = response.body();
+        if (body == null || body.length == 0) {
+            return objectMapper.convertValue(List.of(), type);
+        }
+
+        try (InputStream in = open(response)) {
+            return objectMapper.readValue(in, type);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static InputStream open(HttpResponse<byte[]> response) throws IOException {
+        InputStream in = new ByteArrayInputStream(response.body() != null ? response.body() : new byte[0]);
+        boolean gzipped = response.headers()
+                .firstValue(HttpHeaders.CONTENT_ENCODING)
+                .filter(GZIP::equalsIgnoreCase)
+                .isPresent();
+        return gzipped ? new GZIPInputStream(in) : in;
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+}
@@ -1,26 +1,40 @@
 package com.holidaymini.external.nager;
 
+import com.holidaymini.exception.HolidayMiniCustomException;
 import com.holidaymini.exception.InternalServerException;
+import com.holidaymini.exception.ServiceUnavailableException;
 import com.holidaymini.external.HolidayApiClient;
 import com.holidaymini.external.nager.dto.CountryResponse;
+import com.holidaymini.external.nager.dto.HolidayFetchResult;
 import com.holidaymini.external.nager.dto.PublicHolidayResponse;
+import com.holidaymini.external.resilience.RetryableUpstreamException;
+import com.holidaymini.external.resilience.UpstreamGuard;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NagerDateClient implements HolidayApiClient {
 
+    private static final ParameterizedTypeReference<List<PublicHolidayResponse>> HOLIDAYS_TYPE =
+            new ParameterizedTypeReference<>() {};
+
     private final RestClient restClient;
+    private final UpstreamGuard upstreamGuard;
 
     public List<CountryResponse> getAvailableCountries() {
         return fetchList(
@@ -33,35 +47,85 @@ public class NagerDateClient implements HolidayApiClient {
     public List<PublicHolidayResponse> getPublicHolidays(int year, String countryCode) {
         return fetchList(
                 NagerApiEndpoint.GET_PUBLIC_HOLIDAYS.getUrl(),
-                new ParameterizedTypeReference<List<PublicHolidayResponse>>() {},
+                HOLIDAYS_TYPE,
                 "공휴일 조회 실패",
                 year, countryCode
         );
     }
 
+    public HolidayFetchResult getPublicHolidays(int year, String countryCode, String etag, String lastModified) {
+        String contextMsg = "공휴일 조회 실패";
+
+        // 실패를 빈 목록으로 돌려주면 저장된 공휴일을 모두 지우는 병합으로 이어지므로 예외로 끝낸다
+        return execute(contextMsg, () -> {
+            throw new ServiceUnavailableException(contextMsg + " - 외부 API 응답을 사용할 수 없습니다.");
+        }, () -> {
+            ResponseEntity<List<PublicHolidayResponse>> response = handleErrors(
+                    restClient.get()
+                            .uri(NagerApiEndpoint.GET_PUBLIC_HOLIDAYS.getUrl(), year, countryCode)
+                            .headers(headers -> {
+                                if (etag != null) {
+                                    headers.setIfNoneMatch(etag);
+                                }
+                                if (lastModified != null) {
+                                    headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+                                }
+                            })
+                            .retrieve(),
+                    contextMsg
+            ).toEntity(HOLIDAYS_TYPE);
+
+            if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                return HolidayFetchResult.notModified(etag, lastModified);
+            }
+
+            List<PublicHolidayResponse> holidays = response.getBody() != null ? response.getBody() : List.of();
+            return HolidayFetchResult.modified(
+                    holidays,
+                    response.getHeaders().getETag(),
+                    response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED)
+            );
+        });
+    }
+
     private <T> List<T> fetchList(
             String urlTemplate,
             ParameterizedTypeReference<List<T>> typeRef,
             String contextMsg,
             Object... uriVars
     ) {
+        return execute(contextMsg, Collections::emptyList, () -> handleErrors(
+                restClient.get()
+                        .uri(urlTemplate, uriVars)
+                        .retrieve(),
+                contextMsg
+        ).body(typeRef));
+    }
+
+    private RestClient.ResponseSpec handleErrors(RestClient.ResponseSpec responseSpec, String contextMsg) {
+        return responseSpec
+                .onStatus(status -> RetryableUpstreamException.isRetryableStatus(status.value()), (req, res) -> {
+                    throw new RetryableUpstreamException(res.getStatusCode().value());
+                })
+                .onStatus(HttpStatusCode::is4xxClientError, (req, res) -> {
+                    log.warn("{} - 클라이언트 오류: {}", contextMsg, res.getStatusCode());
+                    throw new RestClientException("클라이언트 오류");
+                });
+    }
+
+    private <T> T execute(String contextMsg, Supplier<T> fallback, Supplier<T> call) {
         try {
-            return restClient.get()
-                    .uri(urlTemplate, uriVars)
-                    .retrieve()
-                    .onStatus(HttpStatusCode::is4xxClientError, (req, res) -> {
-                        log.warn("{} - 클라이언트 오류: {}", contextMsg, res.getStatusCode());
-                        throw new RestClientException("클라이언트 오류");
-                    })
-                    .onStatus(HttpStatusCode::is5xxServerError, (req, res) -> {
-                        log.error("{} - 서버 오류: {}", contextMsg, res.getStatusCode());
-                        throw new InternalServerException("외부 API 서버 오류가 발생했습니다: " + contextMsg);
-                    })
-                    .body(typeRef);
+            return upstreamGuard.call(contextMsg, () -> {
+                try {
+                    return call.get();
+                } catch (ResourceAccessException e) {
+                    throw new RetryableUpstreamException(contextMsg + " - 연결 실패", e);
+                }
+            });
         } catch (RestClientException e) {
-            log.warn("{} - 빈 리스트 반환", contextMsg);
-            return Collections.emptyList();
-        } catch (InternalServerException e) {
+            log.warn("{} - {}", contextMsg, e.getMessage());
+            return fallback.get();
+        } catch (HolidayMiniCustomException e) {
             throw e;
         } catch (Exception e) {
             log.error("{} 중 예기치 못한 오류 발생", contextMsg, e);
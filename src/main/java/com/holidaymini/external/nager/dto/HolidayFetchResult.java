@@ -0,0 +1,19 @@
+package com.holidaymini.external.nager.dto;
+
+import java.util.List;
+
+public record HolidayFetchResult(
+        boolean notModified,
+        List<PublicHolidayResponse> holidays,
+        String etag,
+        String lastModified
+) {
+
+    public static HolidayFetchResult modified(List<PublicHolidayResponse> holidays, String etag, String lastModified) {
+        return new HolidayFetchResult(false, holidays, etag, lastModified);
+    }
+
+    public static HolidayFetchResult notModified(String etag, String lastModified) {
+        return new HolidayFetchResult(true, List.of(), etag, lastModified);
+    }
+}
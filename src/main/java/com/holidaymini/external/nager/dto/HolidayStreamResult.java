@@ -0,0 +1,10 @@
+package com.holidaymini.external.nager.dto;
+
+public record HolidayStreamResult(
+        boolean notModified,
+        int count,
+        String etag,
+        String lastModified
+) {
+
+}
@@ -0,0 +1,74 @@
+package com.holidaymini.external.resilience;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AIMD 방식의 동시 요청 한도. 성공할 때마다 한도를 1/limit씩 늘리고(왕복 한 번에 약 +1),
+ * 429/5xx/타임아웃이 나면 backoffRatio 배로 줄인다. 한도를 넘은 요청은 스레드를 막지 않고 대기열의 future로 미룬다.
+ */
+public class AimdLimiter {
+
+    public enum Outcome {
+        SUCCESS,
+        DROPPED,
+        IGNORED
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("잘못된 동시 요청 한도 설정입니다.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    public synchronized CompletableFuture<Void> acquire() {
+        if (inFlight < limit()) {
+            inFlight++;
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        return waiter;
+    }
+
+    public void release(Outcome outcome) {
+        List<CompletableFuture<Void>> ready = new ArrayList<>();
+        synchronized (this) {
+            inFlight--;
+            switch (outcome) {
+                case SUCCESS -> limit = Math.min(maxLimit, limit + 1.0 / limit);
+                case DROPPED -> limit = Math.max(minLimit, limit * backoffRatio);
+                case IGNORED -> {
+                }
+            }
+            while (inFlight < limit() && !waiters.isEmpty()) {
+                inFlight++;
+                ready.add(waiters.poll());
+            }
+        }
+        // 대기자의 후속 작업이 락 밖에서 실행되도록 완료는 마지막에 한다
+        ready.forEach(waiter -> waiter.complete(null));
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+}
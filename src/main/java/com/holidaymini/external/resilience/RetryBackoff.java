@@ -0,0 +1,32 @@
+package com.holidaymini.external.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지수 백오프에 full jitter를 적용한다. 여러 요청이 동시에 실패해도 재시도 시점이 한꺼번에 몰리지 않는다.
+ */
+public class RetryBackoff {
+
+    private static final int MAX_SHIFT = 20;
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+
+    public RetryBackoff(int maxAttempts, Duration baseDelay, Duration maxDelay) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+    }
+
+    public boolean canRetry(int attempt) {
+        return attempt < maxAttempts;
+    }
+
+    public Duration delay(int attempt) {
+        long exponential = baseDelay.toMillis() << Math.min(attempt - 1, MAX_SHIFT);
+        long cap = Math.min(maxDelay.toMillis(), exponential);
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1));
+    }
+}
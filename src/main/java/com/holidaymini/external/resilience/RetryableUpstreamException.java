@@ -0,0 +1,26 @@
+package com.holidaymini.external.resilience;
+
+import lombok.Getter;
+
+/**
+ * 재시도하면 성공할 수 있는 외부 API 실패(429, 5xx, 연결/타임아웃 오류). statusCode가 0이면 응답을 받지 못한 경우다.
+ */
+@Getter
+public class RetryableUpstreamException extends RuntimeException {
+
+    private final int statusCode;
+
+    public RetryableUpstreamException(int statusCode) {
+        super("외부 API 일시 오류: " + statusCode);
+        this.statusCode = statusCode;
+    }
+
+    public RetryableUpstreamException(String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = 0;
+    }
+
+    public static boolean isRetryableStatus(int statusCode) {
+        return statusCode == 429 || statusCode >= 500;
+    }
+}
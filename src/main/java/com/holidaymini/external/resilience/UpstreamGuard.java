@@ -0,0 +1,152 @@
+package com.holidaymini.external.resilience;
+
+import com.holidaymini.exception.InternalServerException;
+import com.holidaymini.exception.ServiceUnavailableException;
+import com.holidaymini.external.resilience.AimdLimiter.Outcome;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 API 호출을 동시 요청 한도(AIMD), 지터 백오프 재시도, 서킷 브레이커로 감싼다.
+ * {@link RetryableUpstreamException}만 재시도하고 한도/서킷에 실패로 반영하며, 나머지 예외는 그대로 전달한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class UpstreamGuard {
+
+    private final AimdLimiter limiter;
+    private final RetryBackoff backoff;
+    private final CircuitBreaker circuitBreaker;
+
+    public <T> T call(String contextMsg, Supplier<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            if (!circuitBreaker.tryAcquire()) {
+                throw circuitOpen(contextMsg);
+            }
+            limiter.acquire().join();
+
+            try {
+                T result = call.get();
+                record(null);
+                return result;
+            } catch (RetryableUpstreamException e) {
+                record(e);
+                if (!backoff.canRetry(attempt)) {
+                    throw exhausted(contextMsg, e);
+                }
+                sleep(retryDelay(contextMsg, attempt, e));
+            } catch (RuntimeException e) {
+                record(e);
+                throw e;
+            }
+        }
+    }
+
+    public <T> CompletableFuture<T> callAsync(String contextMsg, Supplier<CompletableFuture<T>> call) {
+        return attemptAsync(contextMsg, call, 1);
+    }
+
+    public int currentLimit() {
+        return limiter.limit();
+    }
+
+    public int inFlight() {
+        return limiter.inFlight();
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    private <T> CompletableFuture<T> attemptAsync(String contextMsg, Supplier<CompletableFuture<T>> call, int attempt) {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(circuitOpen(contextMsg));
+        }
+
+        return limiter.acquire()
+                .thenCompose(ignored -> invoke(call))
+                .handle((result, ex) -> {
+                    Throwable cause = unwrap(ex);
+                    record(cause);
+
+                    if (cause == null) {
+                        return CompletableFuture.completedFuture(result);
+                    }
+                    if (!(cause instanceof RetryableUpstreamException retryable)) {
+                        return CompletableFuture.<T>failedFuture(cause);
+                    }
+                    if (!backoff.canRetry(attempt)) {
+                        return CompletableFuture.<T>failedFuture(exhausted(contextMsg, retryable));
+                    }
+
+                    Executor delayed = CompletableFuture.delayedExecutor(
+                            retryDelay(contextMsg, attempt, retryable).toMillis(),
+                            TimeUnit.MILLISECONDS
+                    );
+                    return CompletableFuture.runAsync(() -> {
+                    }, delayed).thenCompose(ignored -> attemptAsync(contextMsg, call, attempt + 1));
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private static <T> CompletableFuture<T> invoke(Supplier<CompletableFuture<T>> call) {
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void record(Throwable failure) {
+        if (failure == null) {
+            limiter.release(Outcome.SUCCESS);
+            circuitBreaker.onSuccess();
+        } else if (failure instanceof RetryableUpstreamException) {
+            limiter.release(Outcome.DROPPED);
+            circuitBreaker.onFailure();
+        } else {
+            limiter.release(Outcome.IGNORED);
+            circuitBreaker.onIgnored();
+        }
+    }
+
+    private Duration retryDelay(String contextMsg, int attempt, RetryableUpstreamException e) {
+        Duration delay = backoff.delay(attempt);
+        log.warn("{} - {} ({}회차), {}ms 후 재시도 (동시 요청 한도: {})",
+                contextMsg, e.getMessage(), attempt, delay.toMillis(), limiter.limit());
+        return delay;
+    }
+
+    private static InternalServerException exhausted(String contextMsg, RetryableUpstreamException e) {
+        log.error("{} - 재시도 횟수를 모두 소진했습니다: {}", contextMsg, e.getMessage());
+        return new InternalServerException("외부 API 서버 오류가 발생했습니다: " + contextMsg);
+    }
+
+    private static ServiceUnavailableException circuitOpen(String contextMsg) {
+        log.warn("{} - 외부 API 서킷이 열려 있어 호출하지 않습니다.", contextMsg);
+        return new ServiceUnavailableException("외부 API 호출이 일시적으로 차단되었습니다.");
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        if (ex instanceof CompletionException && ex.getCause() != null) {
+            return ex.getCause();
+        }
+        return ex;
+    }
+
+    private static void sleep(Duration delay) {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException("외부 API 재시도 대기 중 작업이 중단되었습니다.");
+        }
+    }
+}
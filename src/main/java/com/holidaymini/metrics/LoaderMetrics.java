@@ -0,0 +1,91 @@
+package com.holidaymini.metrics;
+
+import com.holidaymini.external.resilience.UpstreamGuard;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LoaderMetrics {
+
+    public static final String STAGE_FETCH = "fetch";
+    public static final String STAGE_DECODE = "decode";
+    public static final String STAGE_PERSIST = "persist";
+
+    private final MeterRegistry registry;
+    private final Counter rowsWritten;
+    private final AtomicInteger activeTasks = new AtomicInteger();
+    private final AtomicReference<Collection<?>> queue = new AtomicReference<>(List.of());
+
+    public LoaderMetrics(MeterRegistry registry, UpstreamGuard nagerUpstreamGuard) {
+        this.registry = registry;
+        this.rowsWritten = Counter.builder("holiday.loader.rows.written")
+                .description("적재된 공휴일 행 수")
+                .register(registry);
+
+        Gauge.builder("holiday.loader.tasks.active", activeTasks, AtomicInteger::get)
+                .description("응답을 기다리거나 처리 중인 국가-연도 조회 작업 수")
+                .register(registry);
+        // 실행기 작업 큐가 아니라 조회와 저장 사이의 쓰기 큐 길이다
+        Gauge.builder("holiday.loader.write.queue.depth", queue, current -> current.get().size())
+                .description("저장 단계 앞 쓰기 큐에 쌓인 국가-연도 수")
+                .register(registry);
+        Gauge.builder("nager.client.concurrency.limit", nagerUpstreamGuard, UpstreamGuard::currentLimit)
+                .description("AIMD로 조정된 외부 API 동시 요청 한도")
+                .register(registry);
+        Gauge.builder("nager.client.requests.active", nagerUpstreamGuard, UpstreamGuard::inFlight)
+                .description("동시 요청 한도 안에서 응답을 기다리는 외부 API 요청 수")
+                .register(registry);
+    }
+
+    public Timer.Sample startTimer() {
+        return Timer.start(registry);
+    }
+
+    public void recordStage(String stage, Timer.Sample sample) {
+        sample.stop(Timer.builder("holiday.loader.stage")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    public void recordUpstream(String endpoint, String status, long elapsedNanos) {
+        Timer.builder("nager.client.requests")
+                .tag("endpoint", endpoint)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void rowsWritten(int rows) {
+        rowsWritten.increment(rows);
+    }
+
+    public void failure(String countryCode, String stage) {
+        Counter.builder("holiday.loader.failures")
+                .tag("country", countryCode)
+                .tag("stage", stage)
+                .register(registry)
+                .increment();
+    }
+
+    public void taskStarted() {
+        activeTasks.incrementAndGet();
+    }
+
+    public void taskFinished() {
+        activeTasks.decrementAndGet();
+    }
+
+    public void watchQueue(Collection<?> current) {
+        queue.set(current);
+    }
+}
@@ -0,0 +1,179 @@
+package com.holidaymini.repository;
+
+import com.holidaymini.domain.Holiday;
+import com.holidaymini.domain.HolidayType;
+import com.holidaymini.repository.dto.HolidayExportCondition;
+import com.holidaymini.repository.dto.HolidayRow;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class HolidayBulkRepository {
+
+    private static final String INSERT_HOLIDAY_SQL = """
+            INSERT INTO holiday (country_id, name, holiday_year, holiday_date, local_name, is_fixed, is_global, type_mask, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String UPDATE_HOLIDAY_SQL = """
+            UPDATE holiday SET local_name = ?, is_fixed = ?, is_global = ?, type_mask = ?, updated_at = ?
+            WHERE holiday_id = ?
+            """;
+    private static final String DELETE_HOLIDAY_SQL = "DELETE FROM holiday WHERE holiday_id = ?";
+    private static final String SELECT_ALL_ROWS_SQL = """
+            SELECT holiday_id, country_id, holiday_date, name, local_name, is_fixed, is_global, type_mask
+            FROM holiday
+            ORDER BY holiday_id
+            """;
+    private static final String SELECT_ROWS_BY_COUNTRY_AND_YEAR_SQL = """
+            SELECT holiday_id, country_id, holiday_date, name, local_name, is_fixed, is_global, type_mask
+            FROM holiday
+            WHERE country_id = ? AND holiday_year = ?
+            ORDER BY holiday_id
+            """;
+    private static final String SELECT_ROWS_BY_COUNTRIES_AND_YEARS_SQL = """
+            SELECT holiday_id, country_id, holiday_date, name, local_name, is_fixed, is_global, type_mask
+            FROM holiday
+            WHERE holiday_year BETWEEN ? AND ?
+            """;
+    private static final String SELECT_EXPORT_ROWS_SQL = """
+            SELECT holiday_id, country_id, holiday_date, name, local_name, is_fixed, is_global, type_mask
+            FROM holiday
+            WHERE 1 = 1
+            """;
+    private static final RowMapper<HolidayRow> HOLIDAY_ROW_MAPPER = (rs, rowNum) -> new HolidayRow(
+            rs.getLong("holiday_id"),
+            rs.getString("country_id"),
+            rs.getDate("holiday_date").toLocalDate(),
+            rs.getString("name"),
+            rs.getString("local_name"),
+            rs.getBoolean("is_fixed"),
+            rs.getBoolean("is_global"),
+            rs.getInt("type_mask")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${data-loader.batch-size:500}")
+    private int batchSize;
+
+    @Transactional
+    public int saveAll(List<Holiday> holidays) {
+        return saveRows(holidays.stream()
+                .map(holiday -> HolidayRow.of(0L, holiday))
+                .toList());
+    }
+
+    @Transactional
+    public int saveRows(List<HolidayRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // 유형이 같은 행에 들어가므로 생성 키를 돌려받을 필요 없이 한 번의 배치로 끝난다
+        jdbcTemplate.batchUpdate(INSERT_HOLIDAY_SQL, rows, batchSize, (ps, row) -> {
+            ps.setString(1, row.countryCode());
+            ps.setString(2, row.name());
+            ps.setInt(3, row.date().getYear());
+            ps.setDate(4, Date.valueOf(row.date()));
+            ps.setString(5, row.localName());
+            ps.setBoolean(6, row.fixed());
+            ps.setBoolean(7, row.global());
+            ps.setInt(8, row.typeMask());
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+        return rows.size();
+    }
+
+    @Transactional
+    public void deleteAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_HOLIDAY_SQL, ids, batchSize, (ps, id) -> ps.setLong(1, id));
+    }
+
+    @Transactional
+    public void updateAll(List<HolidayRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_HOLIDAY_SQL, rows, batchSize, (ps, row) -> {
+            ps.setString(1, row.localName());
+            ps.setBoolean(2, row.fixed());
+            ps.setBoolean(3, row.global());
+            ps.setInt(4, row.typeMask());
+            ps.setTimestamp(5, now);
+            ps.setLong(6, row.id());
+        });
+    }
+
+    public List<HolidayRow> findRowsByCountryAndYear(String countryCode, int year) {
+        return jdbcTemplate.query(SELECT_ROWS_BY_COUNTRY_AND_YEAR_SQL, HOLIDAY_ROW_MAPPER, countryCode, year);
+    }
+
+    public List<HolidayRow> findRowsByCountriesAndYears(Collection<String> countryCodes, int startYear, int endYear) {
+        StringBuilder sql = new StringBuilder(SELECT_ROWS_BY_COUNTRIES_AND_YEARS_SQL);
+        List<Object> args = new ArrayList<>(List.of(startYear, endYear));
+        appendIn(sql, args, "country_id", countryCodes);
+        sql.append("ORDER BY holiday_id");
+        return jdbcTemplate.query(sql.toString(), HOLIDAY_ROW_MAPPER, args.toArray());
+    }
+
+    // 결과를 모으지 않고 커서에서 읽는 대로 넘기므로 결과 크기와 관계없이 메모리 사용량이 일정하다
+    public void streamRows(HolidayExportCondition condition, int fetchSize, Consumer<HolidayRow> consumer) {
+        StringBuilder sql = new StringBuilder(SELECT_EXPORT_ROWS_SQL);
+        List<Object> args = new ArrayList<>();
+        appendIn(sql, args, "country_id", condition.countryCodes());
+        appendIn(sql, args, "holiday_year", condition.years());
+        if (condition.type() != null) {
+            appendIn(sql, args, "type_mask", HolidayType.masksContaining(condition.type()));
+        }
+        sql.append("ORDER BY country_id, holiday_date, holiday_id");
+
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(
+                            sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY
+                    );
+                    ps.setFetchSize(fetchSize);
+                    for (int i = 0; i < args.size(); i++) {
+                        ps.setObject(i + 1, args.get(i));
+                    }
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> consumer.accept(HOLIDAY_ROW_MAPPER.mapRow(rs, rs.getRow()))
+        );
+    }
+
+    public void forEachRow(Consumer<HolidayRow> consumer) {
+        jdbcTemplate.query(SELECT_ALL_ROWS_SQL, (RowCallbackHandler) rs -> consumer.accept(
+                HOLIDAY_ROW_MAPPER.mapRow(rs, rs.getRow())
+        ));
+    }
+
+    private static void appendIn(StringBuilder sql, List<Object> args, String column, Collection<?> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        sql.append("AND ").append(column).append(" IN (")
+                .append(String.join(", ", Collections.nCopies(values.size(), "?")))
+                .append(")\n");
+        args.addAll(values);
+    }
+}
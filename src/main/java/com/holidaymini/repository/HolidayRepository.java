@@ -4,8 +4,12 @@ import com.holidaymini.domain.Country;
 import com.holidaymini.domain.Holiday;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface HolidayRepository extends JpaRepository<Holiday, Long>, HolidayRepositoryCustom {
 
     List<Holiday> findByCountryAndYear(Country country, Integer year);
+
+    @Query("select h.id from Holiday h where h.country = :country and h.year = :year")
+    List<Long> findIdsByCountryAndYear(Country country, Integer year);
 }
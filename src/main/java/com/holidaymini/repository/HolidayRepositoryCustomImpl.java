@@ -65,6 +65,6 @@ public class HolidayRepositoryCustomImpl implements HolidayRepositoryCustom {
     }
 
     private BooleanExpression typeContains(HolidayType type) {
-        return type != null ? QHoliday.holiday.detail.types.contains(type) : null;
+        return type != null ? QHoliday.holiday.detail.typeMask.in(HolidayType.masksContaining(type)) : null;
     }
 }
@@ -0,0 +1,14 @@
+package com.holidaymini.repository;
+
+import com.holidaymini.domain.HolidaySyncState;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface HolidaySyncStateRepository extends JpaRepository<HolidaySyncState, Long> {
+
+    Optional<HolidaySyncState> findByCountryCodeAndYear(String countryCode, Integer year);
+
+    @Transactional
+    void deleteByCountryCodeAndYear(String countryCode, Integer year);
+}
@@ -0,0 +1,15 @@
+package com.holidaymini.repository.dto;
+
+import com.holidaymini.domain.HolidayType;
+import java.util.Set;
+
+/**
+ * 비어 있는 집합은 해당 조건으로 거르지 않는다는 뜻이다.
+ */
+public record HolidayExportCondition(
+        Set<String> countryCodes,
+        Set<Integer> years,
+        HolidayType type
+) {
+
+}
@@ -0,0 +1,31 @@
+package com.holidaymini.repository.dto;
+
+import com.holidaymini.domain.Holiday;
+import com.holidaymini.domain.HolidayDetail;
+import java.time.LocalDate;
+
+public record HolidayRow(
+        long id,
+        String countryCode,
+        LocalDate date,
+        String name,
+        String localName,
+        boolean fixed,
+        boolean global,
+        int typeMask
+) {
+
+    public static HolidayRow of(long id, Holiday holiday) {
+        HolidayDetail detail = holiday.getDetail();
+        return new HolidayRow(
+                id,
+                holiday.getCountry().getCountryCode(),
+                holiday.getDate(),
+                holiday.getName(),
+                detail.getLocalName(),
+                Boolean.TRUE.equals(detail.getIsFixed()),
+                Boolean.TRUE.equals(detail.getIsGlobal()),
+                detail.getTypeMask()
+        );
+    }
+}
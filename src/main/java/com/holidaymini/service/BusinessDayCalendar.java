@@ -0,0 +1,199 @@
+package com.holidaymini.service;
+
+import com.holidaymini.config.BusinessDayProperties;
+import com.holidaymini.config.HolidayYearProperties;
+import com.holidaymini.domain.Country;
+import com.holidaymini.domain.HolidayType;
+import com.holidaymini.repository.HolidayBulkRepository;
+import com.holidaymini.repository.dto.HolidayRow;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * (국가, 연도)별 영업일 누적 개수 배열. 판정과 구간 개수는 배열 두 칸의 차이로, 영업일 더하기는 이진 탐색으로 답한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BusinessDayCalendar {
+
+    private static final int OFFICIAL_TYPES = HolidayType.PUBLIC.mask() | HolidayType.BANK.mask();
+
+    private final HolidayBulkRepository holidayBulkRepository;
+    private final BusinessDayProperties businessDayProperties;
+    private final HolidayYearProperties yearProperties;
+    private final HolidayYearLoader yearLoader;
+
+    private final AtomicLong versions = new AtomicLong();
+    private final Map<Key, YearCalendar> calendars = new ConcurrentHashMap<>();
+
+    public boolean isBusinessDay(Country country, LocalDate date, boolean officialOnly) {
+        YearCalendar calendar = get(country, date.getYear());
+        int[] prefix = calendar.prefix(officialOnly);
+        int day = date.getDayOfYear();
+        return prefix[day] - prefix[day - 1] == 1;
+    }
+
+    // 양 끝 날짜를 모두 포함한다
+    public int countBusinessDays(Country country, LocalDate from, LocalDate to, boolean officialOnly) {
+        int count = 0;
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            int[] prefix = get(country, year).prefix(officialOnly);
+            int low = year == from.getYear() ? from.getDayOfYear() - 1 : 0;
+            int high = year == to.getYear() ? to.getDayOfYear() : prefix.length - 1;
+            count += prefix[high] - prefix[low];
+        }
+        return count;
+    }
+
+    // 결과가 설정한 연도 범위를 벗어나면 비어 있는 값을 반환한다
+    public Optional<LocalDate> addBusinessDays(Country country, LocalDate date, int days, boolean officialOnly) {
+        if (days == 0) {
+            return Optional.of(date);
+        }
+
+        int year = date.getYear();
+        int[] prefix = get(country, year).prefix(officialOnly);
+        if (days > 0) {
+            int target = prefix[date.getDayOfYear()] + days;
+            while (target > total(prefix)) {
+                target -= total(prefix);
+                if (++year > yearProperties.max()) {
+                    return Optional.empty();
+                }
+                prefix = get(country, year).prefix(officialOnly);
+            }
+            return Optional.of(dateOf(year, prefix, target));
+        }
+
+        int target = prefix[date.getDayOfYear() - 1] + days + 1;
+        while (target < 1) {
+            if (--year < yearProperties.min()) {
+                return Optional.empty();
+            }
+            prefix = get(country, year).prefix(officialOnly);
+            target += total(prefix);
+        }
+        return Optional.of(dateOf(year, prefix, target));
+    }
+
+    public void rebuild(Country country, int year) {
+        put(load(country, year));
+    }
+
+    public void clear() {
+        calendars.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidaysChanged(HolidaysChangedEvent event) {
+        rebuild(event.country(), event.year());
+    }
+
+    // 변경 이벤트로 다시 만드는 경로는 지연 적재를 거치지 않는다. 적재가 끝나며 낸 이벤트가 자기 자신을 기다리게 된다
+    private YearCalendar get(Country country, int year) {
+        YearCalendar calendar = calendars.get(new Key(country.getCountryCode(), year));
+        if (calendar != null) {
+            return calendar;
+        }
+        yearLoader.ensureLoaded(country, year);
+        return put(load(country, year));
+    }
+
+    private YearCalendar load(Country country, int year) {
+        long version = versions.incrementAndGet();
+        List<HolidayRow> rows = holidayBulkRepository.findRowsByCountryAndYear(country.getCountryCode(), year);
+        Set<DayOfWeek> weekend = businessDayProperties.weekendOf(country.getCountryCode());
+        return YearCalendar.of(version, country.getCountryCode(), year, weekend, rows);
+    }
+
+    private YearCalendar put(YearCalendar calendar) {
+        return calendars.merge(
+                new Key(calendar.countryCode, calendar.year),
+                calendar,
+                (existing, loaded) -> loaded.version > existing.version ? loaded : existing
+        );
+    }
+
+    private static int total(int[] prefix) {
+        return prefix[prefix.length - 1];
+    }
+
+    // 누적 개수가 처음으로 target에 닿는 날이 target번째 영업일이다
+    private static LocalDate dateOf(int year, int[] prefix, int target) {
+        int low = 1;
+        int high = prefix.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prefix[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return Year.of(year).atDay(low);
+    }
+
+    private record Key(String countryCode, int year) {
+
+    }
+
+    private static final class YearCalendar {
+
+        private final long version;
+        private final String countryCode;
+        private final int year;
+
+        // prefix[d]는 1월 1일부터 d번째 날까지의 영업일 수. all은 모든 공휴일, official은 PUBLIC/BANK만 쉬는 날로 본다
+        private final int[] all;
+        private final int[] official;
+
+        private YearCalendar(long version, String countryCode, int year, int days) {
+            this.version = version;
+            this.countryCode = countryCode;
+            this.year = year;
+            this.all = new int[days + 1];
+            this.official = new int[days + 1];
+        }
+
+        private static YearCalendar of(
+                long version,
+                String countryCode,
+                int year,
+                Set<DayOfWeek> weekend,
+                List<HolidayRow> rows
+        ) {
+            int days = Year.of(year).length();
+            boolean[] holiday = new boolean[days + 1];
+            boolean[] officialHoliday = new boolean[days + 1];
+            for (HolidayRow row : rows) {
+                int day = row.date().getDayOfYear();
+                holiday[day] = true;
+                officialHoliday[day] |= (row.typeMask() & OFFICIAL_TYPES) != 0;
+            }
+
+            YearCalendar calendar = new YearCalendar(version, countryCode, year, days);
+            DayOfWeek dayOfWeek = LocalDate.of(year, 1, 1).getDayOfWeek();
+            for (int day = 1; day <= days; day++) {
+                boolean weekendDay = weekend.contains(dayOfWeek);
+                calendar.all[day] = calendar.all[day - 1] + (weekendDay || holiday[day] ? 0 : 1);
+                calendar.official[day] = calendar.official[day - 1] + (weekendDay || officialHoliday[day] ? 0 : 1);
+                dayOfWeek = dayOfWeek.plus(1);
+            }
+            return calendar;
+        }
+
+        private int[] prefix(boolean officialOnly) {
+            return officialOnly ? official : all;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.holidaymini.service;
+
+import com.holidaymini.config.HolidayYearProperties;
+import com.holidaymini.domain.Country;
+import com.holidaymini.exception.BadRequestException;
+import com.holidaymini.exception.NotFoundException;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class BusinessDayService {
+
+    private static final int MAX_DAYS = 3000;
+
+    private final CountryRegistry countryRegistry;
+    private final BusinessDayCalendar businessDayCalendar;
+    private final HolidayYearProperties yearProperties;
+
+    public boolean isBusinessDay(String countryCode, LocalDate date, boolean officialOnly) {
+        validateYear(date);
+
+        return businessDayCalendar.isBusinessDay(findCountry(countryCode), date, officialOnly);
+    }
+
+    public LocalDate addBusinessDays(String countryCode, LocalDate date, int days, boolean officialOnly) {
+        validateYear(date);
+        if (days < -MAX_DAYS || MAX_DAYS < days) {
+            throw new BadRequestException("더할 영업일 수는 -" + MAX_DAYS + " - " + MAX_DAYS + " 사이여야 합니다.");
+        }
+
+        return businessDayCalendar.addBusinessDays(findCountry(countryCode), date, days, officialOnly)
+                .orElseThrow(() -> new NotFoundException(
+                        "계산 결과가 " + yearProperties.min() + " - " + yearProperties.max() + "년 범위를 벗어납니다."
+                ));
+    }
+
+    public int countBusinessDays(String countryCode, LocalDate from, LocalDate to, boolean officialOnly) {
+        validateYear(from);
+        validateYear(to);
+        if (from.isAfter(to)) {
+            throw new BadRequestException("시작일이 종료일보다 늦습니다.");
+        }
+
+        return businessDayCalendar.countBusinessDays(findCountry(countryCode), from, to, officialOnly);
+    }
+
+    private Country findCountry(String countryCode) {
+        return countryRegistry.find(countryCode)
+                .orElseThrow(() -> new BadRequestException("등록되지 않은 국가 코드입니다"));
+    }
+
+    private void validateYear(LocalDate date) {
+        yearProperties.validate(date.getYear());
+    }
+}
@@ -0,0 +1,5 @@
+package com.holidaymini.service;
+
+public record CountriesLoadedEvent(int count) {
+
+}
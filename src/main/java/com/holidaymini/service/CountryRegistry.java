@@ -0,0 +1,52 @@
+package com.holidaymini.service;
+
+import com.holidaymini.domain.Country;
+import com.holidaymini.repository.CountryRepository;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 국가 목록은 국가 적재 시점에만 바뀌므로, 요청마다 조회하지 않고 메모리의 불변 맵에서 찾는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CountryRegistry {
+
+    private final CountryRepository countryRepository;
+
+    private volatile Map<String, Country> countries = Map.of();
+
+    public Optional<Country> find(String countryCode) {
+        return countryCode != null ? Optional.ofNullable(countries.get(countryCode)) : Optional.empty();
+    }
+
+    public int size() {
+        return countries.size();
+    }
+
+    public void refresh() {
+        countries = countryRepository.findAll()
+                .stream()
+                .collect(Collectors.toUnmodifiableMap(Country::getCountryCode, Function.identity()));
+        log.debug("국가 목록을 다시 읽었습니다. ({}개)", countries.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountriesLoaded(CountriesLoadedEvent event) {
+        refresh();
+    }
+}
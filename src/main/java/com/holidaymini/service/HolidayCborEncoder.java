@@ -0,0 +1,95 @@
+package com.holidaymini.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.holidaymini.controller.dto.HolidayResponse;
+import com.holidaymini.controller.dto.HolidaySearchFilter;
+import com.holidaymini.domain.HolidayType;
+import com.holidaymini.repository.dto.HolidayRow;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스 간 호출용 CBOR 표현. 행은 필드 이름 없이 고정 순서 배열로 쓰고,
+ * 날짜는 epoch day 정수, 유형은 {@link HolidayType#mask()} 비트마스크로 쓴다.
+ */
+@Component
+public class HolidayCborEncoder {
+
+    static final List<String> PAGE_FIELDS = List.of("id", "date", "name", "localName", "isFixed", "isGlobal", "types");
+    static final List<String> EXPORT_FIELDS =
+            List.of("id", "countryCode", "date", "name", "localName", "isFixed", "isGlobal", "types");
+
+    private final CBORFactory cborFactory = new CBORFactory();
+
+    // 한 페이지는 같은 국가-연도이므로 국가 코드와 연도는 페이지에 한 번만 쓴다
+    public byte[] encodePage(HolidaySearchFilter filter, Page<HolidayResponse> page) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + page.getNumberOfElements() * 48);
+        try (CBORGenerator generator = cborFactory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("countryCode", filter.countryCode());
+            generator.writeNumberField("year", filter.year());
+            generator.writeNumberField("totalElements", page.getTotalElements());
+            generator.writeNumberField("totalPages", page.getTotalPages());
+            generator.writeNumberField("currentPage", page.getNumber());
+            generator.writeNumberField("pageSize", page.getSize());
+            generator.writeBooleanField("hasNext", page.hasNext());
+            generator.writeBooleanField("hasPrevious", page.hasPrevious());
+            writeFields(generator, PAGE_FIELDS);
+
+            generator.writeFieldName("holidays");
+            generator.writeStartArray(page.getContent(), page.getNumberOfElements());
+            for (HolidayResponse holiday : page.getContent()) {
+                generator.writeStartArray(holiday, PAGE_FIELDS.size());
+                generator.writeNumber(holiday.id());
+                generator.writeNumber(holiday.date().toEpochDay());
+                generator.writeString(holiday.name());
+                generator.writeString(holiday.localName());
+                generator.writeBoolean(Boolean.TRUE.equals(holiday.isFixed()));
+                generator.writeBoolean(Boolean.TRUE.equals(holiday.isGlobal()));
+                generator.writeNumber(HolidayType.toMask(holiday.types()));
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // 내보내기는 최상위 배열을 이어 쓰는 CBOR 시퀀스(RFC 8742)이므로 끝을 기다리지 않고 한 행씩 읽을 수 있다
+    public CBORGenerator createGenerator(OutputStream out) throws IOException {
+        CBORGenerator generator = cborFactory.createGenerator(out);
+        generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        return generator;
+    }
+
+    public void writeRow(CBORGenerator generator, HolidayRow row) throws IOException {
+        generator.writeStartArray(row, EXPORT_FIELDS.size());
+        generator.writeNumber(row.id());
+        generator.writeString(row.countryCode());
+        generator.writeNumber(row.date().toEpochDay());
+        generator.writeString(row.name());
+        generator.writeString(row.localName());
+        generator.writeBoolean(row.fixed());
+        generator.writeBoolean(row.global());
+        generator.writeNumber(row.typeMask());
+        generator.writeEndArray();
+    }
+
+    private static void writeFields(CBORGenerator generator, List<String> fields) throws IOException {
+        generator.writeFieldName("fields");
+        generator.writeStartArray(fields, fields.size());
+        for (String field : fields) {
+            generator.writeString(field);
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,34 @@
+package com.holidaymini.service;
+
+import com.holidaymini.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 검색 정렬 순서인 (날짜, 국가 코드, id) 기준으로 마지막으로 내려준 공휴일의 위치.
+ * 클라이언트에는 내부 구조를 알 수 없도록 Base64 문자열로만 전달한다.
+ */
+public record HolidayCursor(LocalDate date, String countryCode, long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = date + DELIMITER + countryCode + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static HolidayCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || parts[1].isEmpty()) {
+                throw new BadRequestException("잘못된 커서입니다.");
+            }
+            return new HolidayCursor(LocalDate.parse(parts[0]), parts[1], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
+    }
+}
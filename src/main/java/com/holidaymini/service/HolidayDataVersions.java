@@ -0,0 +1,49 @@
+package com.holidaymini.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * (국가, 연도)별 데이터 버전. 마지막으로 바뀐 시각(epoch ms)을 버전으로 써서 ETag와 Last-Modified에 함께 쓴다.
+ * 재시작하면 기준 시각이 다시 잡히므로 이전 프로세스가 발급한 ETag와 겹치지 않는다.
+ */
+@Component
+public class HolidayDataVersions {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<CountryYear, Long> versions = new ConcurrentHashMap<>();
+    private volatile long base = next();
+
+    public long get(String countryCode, int year) {
+        return Math.max(base, versions.getOrDefault(new CountryYear(countryCode, year), 0L));
+    }
+
+    public void touch(String countryCode, int year) {
+        versions.merge(new CountryYear(countryCode, year), next(), Math::max);
+    }
+
+    public void touchAll() {
+        base = next();
+        versions.clear();
+    }
+
+    // 인덱스 교체와 검색 캐시 무효화가 끝난 뒤에 올려야 새 버전으로 이전 데이터가 나가지 않는다
+    @Order(HolidayIndex.LISTENER_ORDER + 2)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidaysChanged(HolidaysChangedEvent event) {
+        touch(event.country().getCountryCode(), event.year());
+    }
+
+    // 같은 밀리초 안에 여러 번 바뀌어도 버전이 겹치지 않도록 단조 증가시킨다
+    private long next() {
+        return clock.updateAndGet(previous -> Math.max(previous + 1, System.currentTimeMillis()));
+    }
+
+    private record CountryYear(String countryCode, int year) {
+
+    }
+}
@@ -0,0 +1,148 @@
+package com.holidaymini.service;
+
+import com.holidaymini.config.HolidayYearProperties;
+import com.holidaymini.repository.HolidayBulkRepository;
+import com.holidaymini.repository.dto.HolidayRow;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * (국가, 연도)별 공휴일 여부를 연중 일자 비트셋(long 6개)으로 들고 있는 인덱스.
+ * 한 건 조회는 맵 조회 한 번과 비트 연산 한 번이므로 대량 날짜 확인에 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HolidayDateIndex {
+
+    private static final int WORDS = (366 + Long.SIZE - 1) / Long.SIZE;
+
+    private final HolidayBulkRepository holidayBulkRepository;
+    private final HolidayYearProperties yearProperties;
+
+    private final AtomicLong versions = new AtomicLong();
+    private final Map<String, CountryDates> entries = new ConcurrentHashMap<>();
+
+    // 연도는 호출하는 쪽에서 설정한 범위로 검증한다
+    public boolean isHoliday(String countryCode, LocalDate date) {
+        int slot = date.getYear() - yearProperties.min();
+        CountryDates dates = entries.get(countryCode);
+        if (dates == null || dates.bits[slot] == null) {
+            load(List.of(countryCode));
+            dates = entries.get(countryCode);
+        }
+
+        int day = date.getDayOfYear() - 1;
+        return (dates.bits[slot][day >>> 6] & (1L << day)) != 0;
+    }
+
+    // 아직 읽지 않은 국가만 모아 한 번의 조회로 채운다
+    public void loadMissing(Collection<String> countryCodes) {
+        Set<String> missing = new LinkedHashSet<>();
+        for (String countryCode : countryCodes) {
+            CountryDates dates = entries.get(countryCode);
+            if (dates == null || !dates.complete()) {
+                missing.add(countryCode);
+            }
+        }
+        if (!missing.isEmpty()) {
+            load(missing);
+        }
+    }
+
+    public void rebuild(String countryCode, int year) {
+        long version = versions.incrementAndGet();
+        long[] bits = new long[WORDS];
+        for (HolidayRow row : holidayBulkRepository.findRowsByCountryAndYear(countryCode, year)) {
+            set(bits, row.date());
+        }
+        entries.merge(countryCode, CountryDates.ofYear(yearProperties.size(), year - yearProperties.min(), version, bits), CountryDates::merge);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidaysChanged(HolidaysChangedEvent event) {
+        if (yearProperties.contains(event.year())) {
+            rebuild(event.country().getCountryCode(), event.year());
+        }
+    }
+
+    private void load(Collection<String> countryCodes) {
+        // 버전은 조회 전에 발급해야 늦게 끝난 이전 조회가 변경 이벤트로 다시 만든 연도를 덮어쓰지 않는다
+        long version = versions.incrementAndGet();
+        Map<String, long[][]> bitsByCountry = new HashMap<>();
+        for (String countryCode : countryCodes) {
+            bitsByCountry.put(countryCode, new long[yearProperties.size()][WORDS]);
+        }
+        int min = yearProperties.min();
+        for (HolidayRow row : holidayBulkRepository.findRowsByCountriesAndYears(countryCodes, min, yearProperties.max())) {
+            set(bitsByCountry.get(row.countryCode())[row.date().getYear() - min], row.date());
+        }
+        bitsByCountry.forEach((countryCode, bits) ->
+                entries.merge(countryCode, CountryDates.ofAllYears(version, bits), CountryDates::merge));
+    }
+
+    private static void set(long[] bits, LocalDate date) {
+        int day = date.getDayOfYear() - 1;
+        bits[day >>> 6] |= 1L << day;
+    }
+
+    // 만든 뒤에는 바꾸지 않는다. 연도 칸마다 버전을 따로 두어 더 새로 읽은 칸만 골라 합친다
+    private static final class CountryDates {
+
+        private final long[] versions;
+        private final long[][] bits;
+
+        private CountryDates(int years) {
+            this.versions = new long[years];
+            this.bits = new long[years][];
+        }
+
+        private static CountryDates ofAllYears(long version, long[][] bits) {
+            CountryDates dates = new CountryDates(bits.length);
+            for (int slot = 0; slot < bits.length; slot++) {
+                dates.versions[slot] = version;
+                dates.bits[slot] = bits[slot];
+            }
+            return dates;
+        }
+
+        private static CountryDates ofYear(int years, int slot, long version, long[] bits) {
+            CountryDates dates = new CountryDates(years);
+            dates.versions[slot] = version;
+            dates.bits[slot] = bits;
+            return dates;
+        }
+
+        private static CountryDates merge(CountryDates existing, CountryDates loaded) {
+            CountryDates merged = new CountryDates(existing.bits.length);
+            for (int slot = 0; slot < merged.bits.length; slot++) {
+                CountryDates newer = loaded.versions[slot] > existing.versions[slot] ? loaded : existing;
+                merged.versions[slot] = newer.versions[slot];
+                merged.bits[slot] = newer.bits[slot];
+            }
+            return merged;
+        }
+
+        private boolean complete() {
+            for (long[] year : bits) {
+                if (year == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
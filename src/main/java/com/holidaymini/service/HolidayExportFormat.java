@@ -0,0 +1,48 @@
+package com.holidaymini.service;
+
+import com.holidaymini.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+@Getter
+public enum HolidayExportFormat {
+
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON),
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+    CBOR("cbor", MediaType.APPLICATION_CBOR),
+    ;
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    HolidayExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public static HolidayExportFormat from(String format) {
+        return Arrays.stream(values())
+                .filter(value -> value.extension.equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("지원하지 않는 내보내기 형식입니다: " + format));
+    }
+
+    // format 파라미터가 없으면 Accept 헤더에 명시된 형식 중 품질 값이 가장 높은 것을 고르고, 없으면 NDJSON이다
+    public static HolidayExportFormat negotiate(List<MediaType> accepted) {
+        HolidayExportFormat selected = NDJSON;
+        double quality = 0;
+        for (MediaType mediaType : accepted) {
+            for (HolidayExportFormat format : values()) {
+                if (!mediaType.isWildcardSubtype() && format.mediaType.isCompatibleWith(mediaType)
+                        && mediaType.getQualityValue() > quality) {
+                    selected = format;
+                    quality = mediaType.getQualityValue();
+                }
+            }
+        }
+        return selected;
+    }
+}
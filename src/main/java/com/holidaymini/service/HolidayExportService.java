@@ -0,0 +1,195 @@
+package com.holidaymini.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.holidaymini.config.HolidayYearProperties;
+import com.holidaymini.domain.Country;
+import com.holidaymini.domain.HolidayType;
+import com.holidaymini.exception.BadRequestException;
+import com.holidaymini.repository.HolidayBulkRepository;
+import com.holidaymini.repository.dto.HolidayExportCondition;
+import com.holidaymini.repository.dto.HolidayRow;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HolidayExportService {
+
+    private static final String CSV_HEADER = "id,countryCode,countryName,date,year,name,localName,isFixed,isGlobal,types";
+
+    private final HolidayBulkRepository holidayBulkRepository;
+    private final CountryRegistry countryRegistry;
+    private final ObjectMapper objectMapper;
+    private final HolidayCborEncoder cborEncoder;
+    private final HolidayYearProperties yearProperties;
+
+    @Value("${export.fetch-size:1000}")
+    private int fetchSize;
+
+    // 응답 스트림을 열기 전에 조건을 검증해야 잘못된 요청이 200 응답 도중에 끊기지 않는다
+    public HolidayExportCondition prepare(List<String> countryCodes, List<Integer> years, HolidayType type) {
+        List<String> codes = countryCodes != null ? countryCodes : List.of();
+        List<Integer> targetYears = years != null ? years : List.of();
+
+        for (String code : codes) {
+            if (countryRegistry.find(code).isEmpty()) {
+                throw new BadRequestException("등록되지 않은 국가 코드입니다: " + code);
+            }
+        }
+        targetYears.forEach(yearProperties::validate);
+        return new HolidayExportCondition(Set.copyOf(codes), Set.copyOf(targetYears), type);
+    }
+
+    public long export(HolidayExportCondition condition, HolidayExportFormat format, OutputStream out)
+            throws IOException {
+        long startedAt = System.nanoTime();
+        long written = switch (format) {
+            case NDJSON -> writeNdjson(condition, out);
+            case CSV -> writeCsv(condition, out);
+            case CBOR -> writeCbor(condition, out);
+        };
+        log.debug("공휴일 {}건을 {} 형식으로 내보냈습니다. ({}ms)",
+                written, format, (System.nanoTime() - startedAt) / 1_000_000);
+        return written;
+    }
+
+    private long writeNdjson(HolidayExportCondition condition, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        generator.setRootValueSeparator(null);
+
+        long written = stream(condition, row -> {
+            try {
+                writeJson(generator, row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.close();
+        return written;
+    }
+
+    private void writeJson(JsonGenerator generator, HolidayRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.id());
+        generator.writeStringField("name", row.name());
+        generator.writeStringField("localName", row.localName());
+        generator.writeStringField("date", row.date().toString());
+        generator.writeNumberField("year", row.date().getYear());
+        generator.writeStringField("countryCode", row.countryCode());
+        generator.writeStringField("countryName", countryName(row));
+        generator.writeBooleanField("isFixed", row.fixed());
+        generator.writeBooleanField("isGlobal", row.global());
+        generator.writeArrayFieldStart("types");
+        for (HolidayType type : HolidayType.fromMask(row.typeMask())) {
+            generator.writeString(type.name());
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private long writeCbor(HolidayExportCondition condition, OutputStream out) throws IOException {
+        CBORGenerator generator = cborEncoder.createGenerator(out);
+
+        long written = stream(condition, row -> {
+            try {
+                cborEncoder.writeRow(generator, row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.close();
+        return written;
+    }
+
+    private long writeCsv(HolidayExportCondition condition, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long written = stream(condition, row -> {
+            try {
+                writeCsvLine(writer, row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+        return written;
+    }
+
+    private void writeCsvLine(Writer writer, HolidayRow row) throws IOException {
+        StringBuilder types = new StringBuilder();
+        for (HolidayType type : HolidayType.fromMask(row.typeMask())) {
+            if (!types.isEmpty()) {
+                types.append('|');
+            }
+            types.append(type.name());
+        }
+
+        writer.write(Long.toString(row.id()));
+        writer.write(',');
+        writer.write(row.countryCode());
+        writer.write(',');
+        writer.write(csvField(countryName(row)));
+        writer.write(',');
+        writer.write(row.date().toString());
+        writer.write(',');
+        writer.write(Integer.toString(row.date().getYear()));
+        writer.write(',');
+        writer.write(csvField(row.name()));
+        writer.write(',');
+        writer.write(csvField(row.localName()));
+        writer.write(',');
+        writer.write(Boolean.toString(row.fixed()));
+        writer.write(',');
+        writer.write(Boolean.toString(row.global()));
+        writer.write(',');
+        writer.write(types.toString());
+        writer.write('\n');
+    }
+
+    private long stream(HolidayExportCondition condition, Consumer<HolidayRow> consumer) throws IOException {
+        AtomicLong written = new AtomicLong();
+        try {
+            holidayBulkRepository.streamRows(condition, fetchSize, row -> {
+                consumer.accept(row);
+                written.incrementAndGet();
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return written.get();
+    }
+
+    private String countryName(HolidayRow row) {
+        return countryRegistry.find(row.countryCode()).map(Country::getName).orElse(null);
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
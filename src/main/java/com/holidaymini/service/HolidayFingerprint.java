@@ -0,0 +1,83 @@
+package com.holidaymini.service;
+
+import com.holidaymini.domain.HolidayType;
+import com.holidaymini.external.nager.dto.PublicHolidayResponse;
+import com.holidaymini.repository.dto.HolidayRow;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+public final class HolidayFingerprint {
+
+    private static final String FIELD_SEPARATOR = "\u001f";
+
+    private HolidayFingerprint() {
+    }
+
+    public static String of(List<PublicHolidayResponse> holidays) {
+        return digest(holidays.stream().map(HolidayFingerprint::canonicalize));
+    }
+
+    // 스트리밍 적재 경로의 행과 응답 DTO가 같은 지문을 내도록 타입은 변환 후의 비트 마스크로 비교한다
+    public static String ofRows(List<HolidayRow> rows) {
+        return digest(rows.stream().map(row -> canonicalize(
+                row.date(), row.name(), row.localName(), row.fixed(), row.global(), row.typeMask()
+        )));
+    }
+
+    private static String digest(Stream<String> lines) {
+        MessageDigest digest = sha256();
+        lines.sorted().forEach(line -> digest.update(line.getBytes(StandardCharsets.UTF_8)));
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String canonicalize(PublicHolidayResponse response) {
+        int typeMask = 0;
+        if (response.types() != null) {
+            for (String type : response.types()) {
+                typeMask |= HolidayType.convert(type).mask();
+            }
+        }
+
+        return canonicalize(
+                response.date(),
+                response.name(),
+                response.localName(),
+                Boolean.TRUE.equals(response.isFixed()),
+                Boolean.TRUE.equals(response.isGlobal()),
+                typeMask
+        );
+    }
+
+    private static String canonicalize(
+            LocalDate date,
+            String name,
+            String localName,
+            boolean fixed,
+            boolean global,
+            int typeMask
+    ) {
+        return String.join(
+                FIELD_SEPARATOR,
+                String.valueOf(date),
+                name,
+                localName,
+                String.valueOf(fixed),
+                String.valueOf(global),
+                Integer.toString(typeMask)
+        ) + "\n";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.holidaymini.service;
+
+import com.holidaymini.controller.dto.HolidayResponse;
+import com.holidaymini.domain.Country;
+import com.holidaymini.domain.HolidayType;
+import com.holidaymini.repository.CountryRepository;
+import com.holidaymini.repository.HolidayBulkRepository;
+import com.holidaymini.repository.dto.HolidayRow;
+import com.holidaymini.repository.dto.HolidaySearchCondition;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * (국가, 연도)별 공휴일을 날짜순 배열로 들고 있는 읽기 전용 인덱스.
+ * 국가-연도 단위로 새 스냅샷을 만든 뒤 통째로 교체하므로 조회 중에 일부만 바뀐 상태는 보이지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayIndex {
+
+    static final int LISTENER_ORDER = 0;
+
+    private static final Comparator<HolidayRow> DATE_ORDER = Comparator.comparing(HolidayRow::date)
+            .thenComparingLong(HolidayRow::id);
+
+    private final HolidayBulkRepository holidayBulkRepository;
+    private final CountryRepository countryRepository;
+
+    private final AtomicLong versions = new AtomicLong();
+    private volatile Map<Key, CountryYearHolidays> entries = new ConcurrentHashMap<>();
+
+    public Page<HolidayResponse> search(HolidaySearchCondition condition, Pageable pageable) {
+        CountryYearHolidays holidays = get(condition.getCountry(), condition.getYear());
+        return holidays.search(condition.getStartDate(), condition.getEndDate(), condition.getType(), pageable);
+    }
+
+    public HolidayScroll scroll(HolidaySearchCondition condition, HolidayCursor after, int size) {
+        CountryYearHolidays holidays = get(condition.getCountry(), condition.getYear());
+        return holidays.scroll(condition.getStartDate(), condition.getEndDate(), condition.getType(), after, size);
+    }
+
+    // 비어 있는 국가-연도만 모아 한 번에 조회하므로 국가, 연도 수와 관계없이 쿼리는 최대 한 번이다
+    public Map<String, List<HolidayResponse>> findAll(
+            Collection<Country> countries,
+            int startYear,
+            int endYear,
+            HolidayType type
+    ) {
+        Map<Key, CountryYearHolidays> current = entries;
+        loadMissing(current, countries, startYear, endYear);
+
+        int typeMask = type != null ? type.mask() : 0;
+        Map<String, List<HolidayResponse>> result = new LinkedHashMap<>();
+        for (Country country : countries) {
+            List<HolidayResponse> holidays = new ArrayList<>();
+            for (int year = startYear; year <= endYear; year++) {
+                Key key = new Key(country.getCountryCode(), year);
+                CountryYearHolidays entry = current.get(key);
+                (entry != null ? entry : get(country, year)).collect(typeMask, holidays);
+            }
+            result.put(country.getCountryCode(), holidays);
+        }
+        return result;
+    }
+
+    public void rebuild(Country country, int year) {
+        put(entries, load(country, year));
+    }
+
+    public void rebuildAll() {
+        long version = versions.incrementAndGet();
+        Map<String, String> countryNames = countryRepository.findAll()
+                .stream()
+                .collect(Collectors.toMap(Country::getCountryCode, Country::getName));
+
+        Map<Key, List<HolidayRow>> rowsByKey = new HashMap<>();
+        holidayBulkRepository.forEachRow(row -> rowsByKey
+                .computeIfAbsent(new Key(row.countryCode(), row.date().getYear()), key -> new ArrayList<>())
+                .add(row));
+
+        Map<Key, CountryYearHolidays> rebuilt = new ConcurrentHashMap<>(rowsByKey.size() * 2);
+        rowsByKey.forEach((key, rows) -> rebuilt.put(key, CountryYearHolidays.of(
+                version, key.countryCode(), countryNames.get(key.countryCode()), key.year(), rows
+        )));
+
+        entries = rebuilt;
+        log.info("공휴일 인덱스를 다시 구성했습니다. ({}개 국가-연도)", rebuilt.size());
+    }
+
+    public void clear() {
+        entries = new ConcurrentHashMap<>();
+    }
+
+    @Order(LISTENER_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidaysChanged(HolidaysChangedEvent event) {
+        rebuild(event.country(), event.year());
+    }
+
+    private CountryYearHolidays get(Country country, int year) {
+        Map<Key, CountryYearHolidays> current = entries;
+        CountryYearHolidays holidays = current.get(new Key(country.getCountryCode(), year));
+        if (holidays != null) {
+            return holidays;
+        }
+        return put(current, load(country, year));
+    }
+
+    private void loadMissing(
+            Map<Key, CountryYearHolidays> current,
+            Collection<Country> countries,
+            int startYear,
+            int endYear
+    ) {
+        Map<String, Country> missing = new HashMap<>();
+        for (Country country : countries) {
+            for (int year = startYear; year <= endYear; year++) {
+                if (!current.containsKey(new Key(country.getCountryCode(), year))) {
+                    missing.put(country.getCountryCode(), country);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        long version = versions.incrementAndGet();
+        Map<Key, List<HolidayRow>> rowsByKey = new HashMap<>();
+        for (HolidayRow row : holidayBulkRepository.findRowsByCountriesAndYears(missing.keySet(), startYear, endYear)) {
+            rowsByKey.computeIfAbsent(new Key(row.countryCode(), row.date().getYear()), key -> new ArrayList<>())
+                    .add(row);
+        }
+
+        for (Country country : missing.values()) {
+            for (int year = startYear; year <= endYear; year++) {
+                List<HolidayRow> rows = rowsByKey.getOrDefault(new Key(country.getCountryCode(), year), List.of());
+                put(current, CountryYearHolidays.of(version, country.getCountryCode(), country.getName(), year, rows));
+            }
+        }
+    }
+
+    private CountryYearHolidays load(Country country, int year) {
+        // 버전은 조회 전에 발급해야 늦게 끝난 이전 조회가 새 스냅샷을 덮어쓰지 않는다
+        long version = versions.incrementAndGet();
+        List<HolidayRow> rows = holidayBulkRepository.findRowsByCountryAndYear(country.getCountryCode(), year);
+        return CountryYearHolidays.of(version, country.getCountryCode(), country.getName(), year, rows);
+    }
+
+    private static CountryYearHolidays put(Map<Key, CountryYearHolidays> target, CountryYearHolidays holidays) {
+        return target.merge(
+                new Key(holidays.countryCode, holidays.year),
+                holidays,
+                (existing, loaded) -> loaded.version > existing.version ? loaded : existing
+        );
+    }
+
+    private record Key(String countryCode, int year) {
+
+    }
+
+    private static final class CountryYearHolidays {
+
+        private final long version;
+        private final String countryCode;
+        private final String countryName;
+        private final int year;
+        private final long[] ids;
+        private final int[] epochDays;
+        private final String[] names;
+        private final String[] localNames;
+        private final boolean[] fixed;
+        private final boolean[] global;
+        private final int[] typeMasks;
+
+        private CountryYearHolidays(long version, String countryCode, String countryName, int year, int size) {
+            this.version = version;
+            this.countryCode = countryCode;
+            this.countryName = countryName;
+            this.year = year;
+            this.ids = new long[size];
+            this.epochDays = new int[size];
+            this.names = new String[size];
+            this.localNames = new String[size];
+            this.fixed = new boolean[size];
+            this.global = new boolean[size];
+            this.typeMasks = new int[size];
+        }
+
+        private static CountryYearHolidays of(
+                long version,
+                String countryCode,
+                String countryName,
+                int year,
+                List<HolidayRow> rows
+        ) {
+            List<HolidayRow> sorted = rows.stream().sorted(DATE_ORDER).toList();
+            CountryYearHolidays holidays = new CountryYearHolidays(version, countryCode, countryName, year, sorted.size());
+            for (int i = 0; i < sorted.size(); i++) {
+                HolidayRow row = sorted.get(i);
+                holidays.ids[i] = row.id();
+                holidays.epochDays[i] = (int) row.date().toEpochDay();
+                holidays.names[i] = row.name();
+                holidays.localNames[i] = row.localName();
+                holidays.fixed[i] = row.fixed();
+                holidays.global[i] = row.global();
+                holidays.typeMasks[i] = row.typeMask();
+            }
+            return holidays;
+        }
+
+        private Page<HolidayResponse> search(LocalDate startDate, LocalDate endDate, HolidayType type, Pageable pageable) {
+            int from = startDate != null ? lowerBound((int) startDate.toEpochDay()) : 0;
+            int to = endDate != null ? lowerBound((int) endDate.toEpochDay() + 1) : ids.length;
+            int typeMask = type != null ? type.mask() : 0;
+
+            long offset = pageable.getOffset();
+            int limit = pageable.getPageSize();
+            List<HolidayResponse> content = new ArrayList<>(Math.min(limit, Math.max(to - from, 0)));
+
+            if (typeMask == 0) {
+                for (long i = from + offset; i < to && content.size() < limit; i++) {
+                    content.add(toResponse((int) i));
+                }
+                return new PageImpl<>(content, pageable, Math.max(to - from, 0));
+            }
+
+            // 타입 필터는 범위 안에서만 마스크를 훑으므로 국가-연도당 수십 건을 넘지 않는다
+            long matched = 0;
+            for (int i = from; i < to; i++) {
+                if ((typeMasks[i] & typeMask) == 0) {
+                    continue;
+                }
+                if (matched >= offset && content.size() < limit) {
+                    content.add(toResponse(i));
+                }
+                matched++;
+            }
+            return new PageImpl<>(content, pageable, matched);
+        }
+
+        private HolidayScroll scroll(
+                LocalDate startDate,
+                LocalDate endDate,
+                HolidayType type,
+                HolidayCursor after,
+                int size
+        ) {
+            int from = startDate != null ? lowerBound((int) startDate.toEpochDay()) : 0;
+            int to = endDate != null ? lowerBound((int) endDate.toEpochDay() + 1) : ids.length;
+            int typeMask = type != null ? type.mask() : 0;
+            if (after != null) {
+                from = Math.max(from, seek(after));
+            }
+
+            List<HolidayResponse> content = new ArrayList<>(Math.min(size, Math.max(to - from, 0)));
+            int last = -1;
+            int i = from;
+            for (; i < to && content.size() < size; i++) {
+                if (matches(i, typeMask)) {
+                    content.add(toResponse(i));
+                    last = i;
+                }
+            }
+
+            // 전체 건수 대신 다음 항목이 하나라도 있는지만 확인한다
+            while (i < to && !matches(i, typeMask)) {
+                i++;
+            }
+            HolidayCursor next = i < to && last >= 0
+                    ? new HolidayCursor(LocalDate.ofEpochDay(epochDays[last]), countryCode, ids[last])
+                    : null;
+            return new HolidayScroll(content, next);
+        }
+
+        // 커서 바로 다음 위치. 같은 날짜 안에서는 국가 코드, id 순으로 비교한다
+        private int seek(HolidayCursor after) {
+            int epochDay = (int) after.date().toEpochDay();
+            int compared = countryCode.compareTo(after.countryCode());
+            if (compared > 0) {
+                return lowerBound(epochDay);
+            }
+            if (compared < 0) {
+                return lowerBound(epochDay + 1);
+            }
+
+            int i = lowerBound(epochDay);
+            while (i < epochDays.length && epochDays[i] == epochDay && ids[i] <= after.id()) {
+                i++;
+            }
+            return i;
+        }
+
+        private void collect(int typeMask, List<HolidayResponse> target) {
+            for (int i = 0; i < ids.length; i++) {
+                if (matches(i, typeMask)) {
+                    target.add(toResponse(i));
+                }
+            }
+        }
+
+        private boolean matches(int i, int typeMask) {
+            return typeMask == 0 || (typeMasks[i] & typeMask) != 0;
+        }
+
+        private int lowerBound(int epochDay) {
+            int low = 0;
+            int high = epochDays.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (epochDays[mid] < epochDay) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private HolidayResponse toResponse(int i) {
+            return new HolidayResponse(
+                    ids[i],
+                    names[i],
+                    localNames[i],
+                    LocalDate.ofEpochDay(epochDays[i]),
+                    year,
+                    countryCode,
+                    countryName,
+                    fixed[i],
+                    global[i],
+                    HolidayType.fromMask(typeMasks[i])
+            );
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.holidaymini.service;
+
+import com.holidaymini.domain.Country;
+import com.holidaymini.domain.HolidaySyncState;
+import com.holidaymini.exception.InternalServerException;
+import com.holidaymini.metrics.LoaderMetrics;
+import com.holidaymini.repository.dto.HolidayRow;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayLoadPipeline {
+
+    private static final LoadedHolidays END_OF_FETCH = new LoadedHolidays(List.of(), null);
+    private static final long OFFER_POLL_MILLIS = 100;
+
+    private final NagerDataLoadService dataLoadService;
+    private final Executor loaderExecutor;
+    private final LoaderMetrics loaderMetrics;
+
+    @Value("${data-loader.max-concurrent-fetches:40}")
+    private int maxConcurrentFetches;
+
+    @Value("${data-loader.pipeline.queue-capacity:128}")
+    private int queueCapacity;
+
+    @Value("${data-loader.pipeline.writers:2}")
+    private int writerCount;
+
+    @Value("${data-loader.pipeline.offer-timeout:30s}")
+    private Duration offerTimeout;
+
+    @Value("${data-loader.batch-size:500}")
+    private int batchSize;
+
+    public HolidayLoadResult run(Set<Country> countries, int startYear, int endYear) {
+        long startedAt = System.nanoTime();
+        BlockingQueue<LoadedHolidays> loaded = new ArrayBlockingQueue<>(queueCapacity);
+        Counters counters = new Counters();
+        loaderMetrics.watchQueue(loaded);
+
+        // 저장 단계를 먼저 띄워야 조회 결과가 큐에서 막혀도 스레드 풀을 모두 점유하지 않는다
+        // 저장 스레드가 하나라도 멈추면 큐가 비지 않으므로, 남은 조회를 더 넘기지 않고 끝낸다
+        CompletableFuture<Void> writeFailed = new CompletableFuture<>();
+        CompletableFuture<?>[] writeStage = IntStream.range(0, writerCount)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> write(loaded, counters), loaderExecutor)
+                        .whenComplete((ignored, ex) -> {
+                            if (ex != null) {
+                                log.error("공휴일 저장 단계가 중단되어 남은 조회를 취소합니다.", ex);
+                                writeFailed.completeExceptionally(ex);
+                            }
+                        }))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture<Void> writers = CompletableFuture.allOf(writeStage);
+
+        try {
+            fetchAll(countries, startYear, endYear, loaded, counters, writeFailed);
+        } finally {
+            for (int i = 0; i < writerCount; i++) {
+                if (!offer(loaded, END_OF_FETCH, writers)) {
+                    break;
+                }
+            }
+        }
+
+        try {
+            writers.join();
+        } finally {
+            loaderMetrics.watchQueue(List.of());
+        }
+
+        return new HolidayLoadResult(
+                counters.succeeded.get(),
+                counters.failed.get(),
+                counters.rowsWritten.get(),
+                (System.nanoTime() - startedAt) / 1_000_000
+        );
+    }
+
+    private void fetchAll(
+            Set<Country> countries,
+            int startYear,
+            int endYear,
+            BlockingQueue<LoadedHolidays> loaded,
+            Counters counters,
+            CompletableFuture<Void> writeFailed
+    ) {
+        Semaphore inFlight = new Semaphore(maxConcurrentFetches);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int year = startYear; year <= endYear && !writeFailed.isDone(); year++) {
+            for (Country country : countries) {
+                acquire(inFlight);
+                if (writeFailed.isDone()) {
+                    inFlight.release();
+                    break;
+                }
+                int targetYear = year;
+                loaderMetrics.taskStarted();
+                Timer.Sample sample = loaderMetrics.startTimer();
+                // 응답은 도착하는 대로 행 단위로 디코딩되고, 큐 적재(블로킹 가능)만 로더 스레드로 넘긴다
+                futures.add(loadAsync(country, targetYear)
+                        .whenComplete((ignored, ex) -> loaderMetrics.recordStage(LoaderMetrics.STAGE_FETCH, sample))
+                        .thenAcceptAsync(holidays -> {
+                            if (!offer(loaded, holidays, writeFailed)) {
+                                throw new InternalServerException("공휴일 저장 단계가 중단되었습니다.");
+                            }
+                        }, loaderExecutor)
+                        .exceptionally(ex -> {
+                            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                            log.warn("{}년도 {} 데이터 조회 실패: {}", targetYear, country.getCountryCode(), cause.getMessage());
+                            counters.failed.incrementAndGet();
+                            loaderMetrics.failure(country.getCountryCode(), LoaderMetrics.STAGE_FETCH);
+                            return null;
+                        })
+                        .whenComplete((ignored, ex) -> {
+                            loaderMetrics.taskFinished();
+                            inFlight.release();
+                        }));
+            }
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private CompletableFuture<LoadedHolidays> loadAsync(Country country, int year) {
+        try {
+            return dataLoadService.loadHolidaysAsync(country, year);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void write(BlockingQueue<LoadedHolidays> loaded, Counters counters) {
+        List<HolidayRow> batch = new ArrayList<>(batchSize);
+        List<HolidaySyncState> syncStates = new ArrayList<>();
+
+        for (LoadedHolidays item = take(loaded); item != END_OF_FETCH; item = take(loaded)) {
+            batch.addAll(item.rows());
+            syncStates.add(item.syncState());
+
+            if (batch.size() >= batchSize) {
+                flush(batch, syncStates, counters);
+            }
+        }
+        flush(batch, syncStates, counters);
+    }
+
+    private void flush(List<HolidayRow> batch, List<HolidaySyncState> syncStates, Counters counters) {
+        if (syncStates.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = loaderMetrics.startTimer();
+        try {
+            int rows = dataLoadService.saveBatch(batch, syncStates);
+            counters.rowsWritten.addAndGet(rows);
+            counters.succeeded.addAndGet(syncStates.size());
+            loaderMetrics.rowsWritten(rows);
+        } catch (Exception e) {
+            log.warn("공휴일 {}건 저장 실패 ({}개 국가-연도): {}", batch.size(), syncStates.size(), e.getMessage());
+            counters.failed.addAndGet(syncStates.size());
+            syncStates.forEach(state -> loaderMetrics.failure(state.getCountryCode(), LoaderMetrics.STAGE_PERSIST));
+        } finally {
+            loaderMetrics.recordStage(LoaderMetrics.STAGE_PERSIST, sample);
+            batch.clear();
+            syncStates.clear();
+        }
+    }
+
+    private static void acquire(Semaphore semaphore) {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException("데이터 로드 작업이 중단되었습니다.");
+        }
+    }
+
+    // 받는 쪽이 멈춘 큐에 put으로 넣으면 영원히 막히므로 나눠 기다리며 중단 여부를 확인하고, 제한 시간이 지나면 포기한다
+    private <T> boolean offer(BlockingQueue<T> queue, T item, CompletableFuture<?> stop) {
+        long deadline = System.nanoTime() + offerTimeout.toNanos();
+        try {
+            while (!stop.isDone()) {
+                if (queue.offer(item, OFFER_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    throw new InternalServerException("공휴일 저장 단계가 " + offerTimeout.toSeconds() + "초 동안 응답하지 않습니다.");
+                }
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException("데이터 로드 작업이 중단되었습니다.");
+        }
+    }
+
+    private static <T> T take(BlockingQueue<T> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException("데이터 로드 작업이 중단되었습니다.");
+        }
+    }
+
+    private static class Counters {
+
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicLong rowsWritten = new AtomicLong();
+    }
+}
@@ -0,0 +1,10 @@
+package com.holidaymini.service;
+
+public record HolidayLoadResult(
+        int succeeded,
+        int failed,
+        long rowsWritten,
+        long elapsedMillis
+) {
+
+}
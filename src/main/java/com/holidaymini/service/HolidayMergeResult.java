@@ -0,0 +1,14 @@
+package com.holidaymini.service;
+
+public record HolidayMergeResult(
+        int added,
+        int updated,
+        int removed
+) {
+
+    public static final HolidayMergeResult UNCHANGED = new HolidayMergeResult(0, 0, 0);
+
+    public boolean hasChanges() {
+        return added + updated + removed > 0;
+    }
+}
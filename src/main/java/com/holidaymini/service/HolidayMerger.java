@@ -0,0 +1,95 @@
+package com.holidaymini.service;
+
+import com.holidaymini.domain.Country;
+import com.holidaymini.domain.Holiday;
+import com.holidaymini.domain.HolidaySyncState;
+import com.holidaymini.repository.HolidayBulkRepository;
+import com.holidaymini.repository.HolidayRepository;
+import com.holidaymini.repository.HolidaySyncStateRepository;
+import com.holidaymini.repository.dto.HolidayRow;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class HolidayMerger {
+
+    private final HolidayBulkRepository holidayBulkRepository;
+    private final HolidayRepository holidayRepository;
+    private final HolidaySyncStateRepository syncStateRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public HolidayMergeResult merge(Country country, int year, List<Holiday> incoming, HolidaySyncState syncState) {
+        List<HolidayRow> existingRows = holidayBulkRepository.findRowsByCountryAndYear(country.getCountryCode(), year);
+
+        // 같은 (날짜, 이름)이 여러 건일 수 있어 키마다 큐로 보관하고 순서대로 짝을 맞춘다
+        Map<NaturalKey, Deque<HolidayRow>> existingByKey = new HashMap<>(existingRows.size() * 2);
+        for (HolidayRow row : existingRows) {
+            existingByKey.computeIfAbsent(NaturalKey.of(row), key -> new ArrayDeque<>()).add(row);
+        }
+
+        List<Holiday> inserts = new ArrayList<>();
+        List<HolidayRow> updates = new ArrayList<>();
+        for (Holiday holiday : incoming) {
+            Deque<HolidayRow> candidates = existingByKey.get(NaturalKey.of(holiday));
+            HolidayRow existing = candidates != null ? candidates.poll() : null;
+            if (existing == null) {
+                inserts.add(holiday);
+                continue;
+            }
+
+            HolidayRow merged = HolidayRow.of(existing.id(), holiday);
+            if (!merged.equals(existing)) {
+                updates.add(merged);
+            }
+        }
+
+        List<Long> deletes = existingByKey.values()
+                .stream()
+                .flatMap(Deque::stream)
+                .map(HolidayRow::id)
+                .toList();
+
+        holidayBulkRepository.deleteAllByIds(deletes);
+        holidayBulkRepository.updateAll(updates);
+        holidayBulkRepository.saveAll(inserts);
+        syncStateRepository.save(syncState);
+
+        // 커밋된 뒤에 인덱스가 다시 읽도록 이벤트로 넘긴다
+        eventPublisher.publishEvent(new HolidaysChangedEvent(country, year));
+
+        return new HolidayMergeResult(inserts.size(), updates.size(), deletes.size());
+    }
+
+    // 공휴일만 지워지고 동기화 이력이 남으면 다음 갱신이 변경 없음으로 판단하므로 한 트랜잭션에서 함께 지운다
+    @Transactional
+    public int delete(Country country, int year) {
+        List<Long> ids = holidayRepository.findIdsByCountryAndYear(country, year);
+        holidayBulkRepository.deleteAllByIds(ids);
+        syncStateRepository.deleteByCountryCodeAndYear(country.getCountryCode(), year);
+
+        eventPublisher.publishEvent(new HolidaysChangedEvent(country, year));
+        return ids.size();
+    }
+
+    private record NaturalKey(LocalDate date, String name) {
+
+        private static NaturalKey of(HolidayRow row) {
+            return new NaturalKey(row.date(), row.name());
+        }
+
+        private static NaturalKey of(Holiday holiday) {
+            return new NaturalKey(holiday.getDate(), holiday.getName());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.holidaymini.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.holidaymini.controller.dto.HolidayResponse;
+import com.holidaymini.controller.dto.HolidaySearchFilter;
+import com.holidaymini.controller.dto.PageResponse;
+import com.holidaymini.exception.InternalServerException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 조건 없는 국가-연도 검색 페이지의 직렬화 결과(JSON, gzip) 캐시.
+ * 키에 데이터 버전이 들어 있어 버전이 바뀌면 이전 항목은 더 이상 조회되지 않고, 변경 이벤트로 바로 지운다.
+ */
+@Component
+public class HolidayPageBytesCache {
+
+    private final ObjectMapper objectMapper;
+    private final boolean gzip;
+    private final Cache<PageKey, SerializedPage> cache;
+
+    public HolidayPageBytesCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${response-cache.maximum-size:64MB}") DataSize maximumSize,
+            @Value("${response-cache.ttl:10m}") Duration ttl,
+            @Value("${response-cache.gzip:true}") boolean gzip
+    ) {
+        this.objectMapper = objectMapper;
+        this.gzip = gzip;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((PageKey key, SerializedPage page) -> page.size())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "holidaySearchBytes");
+    }
+
+    // 기간, 유형 조건이 붙은 검색은 조합이 많아 바이트로 들고 있지 않는다
+    public static boolean cacheable(HolidaySearchFilter filter) {
+        return filter.startDate() == null && filter.endDate() == null && filter.type() == null;
+    }
+
+    public SerializedPage get(
+            HolidaySearchFilter filter,
+            long version,
+            Pageable pageable,
+            Supplier<PageResponse<HolidayResponse>> loader
+    ) {
+        PageKey key = new PageKey(
+                filter.countryCode(), filter.year(), version, pageable.getOffset(), pageable.getPageSize()
+        );
+        return cache.get(key, ignored -> serialize(loader.get()));
+    }
+
+    public void invalidate(String countryCode, int year) {
+        cache.asMap().keySet().removeIf(key -> key.countryCode().equals(countryCode) && key.year() == year);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidaysChanged(HolidaysChangedEvent event) {
+        invalidate(event.country().getCountryCode(), event.year());
+    }
+
+    private SerializedPage serialize(PageResponse<HolidayResponse> page) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(page);
+            return new SerializedPage(json, gzip ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new InternalServerException("검색 결과를 직렬화하지 못했습니다.");
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private record PageKey(String countryCode, int year, long version, long offset, int pageSize) {
+
+    }
+
+    // gzip은 설정으로 끈 경우 null이다
+    public record SerializedPage(byte[] json, byte[] gzip) {
+
+        private int size() {
+            return json.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+}
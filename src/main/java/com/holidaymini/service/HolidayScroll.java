@@ -0,0 +1,11 @@
+package com.holidaymini.service;
+
+import com.holidaymini.controller.dto.HolidayResponse;
+import java.util.List;
+
+public record HolidayScroll(List<HolidayResponse> content, HolidayCursor next) {
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
@@ -0,0 +1,109 @@
+package com.holidaymini.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.holidaymini.controller.dto.HolidayResponse;
+import com.holidaymini.controller.dto.HolidaySearchFilter;
+import com.holidaymini.domain.HolidayType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 검색 결과 페이지 캐시. 키에 (국가, 연도)별 세대 번호를 넣어, 변경이 생기면 세대만 올려 이전 결과를 즉시 무효화한다.
+ */
+@Component
+public class HolidaySearchCache {
+
+    private final Cache<SearchKey, Page<HolidayResponse>> cache;
+    private final Map<CountryYear, Long> generations = new ConcurrentHashMap<>();
+
+    public HolidaySearchCache(
+            MeterRegistry meterRegistry,
+            @Value("${search-cache.maximum-size:10000}") long maximumSize,
+            @Value("${search-cache.ttl:10m}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "holidaySearch");
+    }
+
+    public Page<HolidayResponse> get(
+            HolidaySearchFilter filter,
+            Pageable pageable,
+            Supplier<Page<HolidayResponse>> loader
+    ) {
+        return cache.get(SearchKey.of(filter, pageable, generation(filter)), key -> loader.get());
+    }
+
+    public void invalidate(String countryCode, int year) {
+        CountryYear target = new CountryYear(countryCode, year);
+        generations.merge(target, 1L, Long::sum);
+        cache.asMap().keySet().removeIf(key -> key.countryYear().equals(target));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    // 인덱스가 먼저 교체된 뒤에 세대를 올려야 새 세대 키로 이전 데이터가 캐시되지 않는다
+    @Order(HolidayIndex.LISTENER_ORDER + 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidaysChanged(HolidaysChangedEvent event) {
+        invalidate(event.country().getCountryCode(), event.year());
+    }
+
+    private long generation(HolidaySearchFilter filter) {
+        return generations.getOrDefault(new CountryYear(filter.countryCode(), filter.year()), 0L);
+    }
+
+    private record CountryYear(String countryCode, int year) {
+
+    }
+
+    private record SearchKey(
+            CountryYear countryYear,
+            long generation,
+            LocalDate startDate,
+            LocalDate endDate,
+            HolidayType type,
+            long offset,
+            int pageSize
+    ) {
+
+        // 연도 경계를 벗어나는 기간은 조건이 없는 것과 같으므로 지워서 같은 키로 모은다
+        private static SearchKey of(HolidaySearchFilter filter, Pageable pageable, long generation) {
+            LocalDate firstDay = LocalDate.of(filter.year(), 1, 1);
+            LocalDate lastDay = LocalDate.of(filter.year(), 12, 31);
+            LocalDate startDate = filter.startDate() != null && filter.startDate().isAfter(firstDay)
+                    ? filter.startDate()
+                    : null;
+            LocalDate endDate = filter.endDate() != null && filter.endDate().isBefore(lastDay)
+                    ? filter.endDate()
+                    : null;
+
+            return new SearchKey(
+                    new CountryYear(filter.countryCode(), filter.year()),
+                    generation,
+                    startDate,
+                    endDate,
+                    filter.type(),
+                    pageable.getOffset(),
+                    pageable.getPageSize()
+            );
+        }
+    }
+}
@@ -1,46 +1,134 @@
 package com.holidaymini.service;
 
+import com.holidaymini.config.HolidayYearProperties;
+import com.holidaymini.controller.dto.CountryHolidaysResponse;
+import com.holidaymini.controller.dto.HolidayBatchSearchRequest;
+import com.holidaymini.controller.dto.HolidayLookupRequest;
+import com.holidaymini.controller.dto.HolidayResponse;
 import com.holidaymini.controller.dto.HolidaySearchFilter;
 import com.holidaymini.domain.Country;
-import com.holidaymini.domain.Holiday;
 import com.holidaymini.exception.BadRequestException;
-import com.holidaymini.exception.NotFoundException;
-import com.holidaymini.repository.CountryRepository;
-import com.holidaymini.repository.HolidayRepository;
 import com.holidaymini.repository.dto.HolidaySearchCondition;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class HolidayService {
 
-    private static final int START_YEAR = 2020;
-    private static final int END_YEAR = 2025;
+    private static final int MAX_SCROLL_SIZE = 1000;
 
-    private final NagerDataLoadService nagerDataLoadService;
-    private final HolidayRepository holidayRepository;
-    private final CountryRepository countryRepository;
+    private final CountryRegistry countryRegistry;
+    private final HolidayIndex holidayIndex;
+    private final HolidayDateIndex holidayDateIndex;
+    private final HolidaySearchCache searchCache;
+    private final HolidayDataVersions dataVersions;
+    private final HolidayYearLoader yearLoader;
+    private final HolidayYearProperties yearProperties;
 
-    @Transactional(readOnly = true)
-    public Page<Holiday> searchHolidays(HolidaySearchFilter request, Pageable pageable) {
+    public Page<HolidayResponse> searchHolidays(HolidaySearchFilter request, Pageable pageable) {
         validateYear(request.year());
+        Country country = findSearchCountry(request);
+        yearLoader.ensureLoaded(country, request.year());
 
-        Country country = countryRepository.findById(request.countryCode())
-                .orElseThrow(() -> new BadRequestException("등록되지 않은 국가 코드입니다"));
+        return searchCache.get(request, pageable, () -> search(country, request, pageable));
+    }
+
+    // 검색을 실행하지 않고 조건 검증과 버전 조회만 하므로 조건부 요청을 바로 판정할 수 있다
+    public long dataVersion(HolidaySearchFilter request) {
+        validateYear(request.year());
+        Country country = findSearchCountry(request);
+        yearLoader.ensureLoaded(country, request.year());
 
+        return dataVersions.get(country.getCountryCode(), request.year());
+    }
+
+    private Page<HolidayResponse> search(Country country, HolidaySearchFilter request, Pageable pageable) {
         HolidaySearchCondition condition = convertToCondition(country, request);
-        return holidayRepository.searchByConditions(condition, pageable);
+        return holidayIndex.search(condition, pageable);
     }
 
-    private void validateYear(int year) {
-        if (year < START_YEAR || END_YEAR < year) {
-            throw new NotFoundException("2020 - 2025년 범위 외의 연도입니다.");
+    public HolidayScroll scrollHolidays(HolidaySearchFilter request, String cursor, int size) {
+        validateYear(request.year());
+        if (size < 1 || MAX_SCROLL_SIZE < size) {
+            throw new BadRequestException("조회 크기는 1 - " + MAX_SCROLL_SIZE + " 사이여야 합니다.");
+        }
+
+        HolidayCursor after = cursor != null && !cursor.isBlank() ? HolidayCursor.decode(cursor) : null;
+        Country country = findSearchCountry(request);
+        yearLoader.ensureLoaded(country, request.year());
+        return holidayIndex.scroll(convertToCondition(country, request), after, size);
+    }
+
+    public List<CountryHolidaysResponse> searchBatch(HolidayBatchSearchRequest request) {
+        validateYear(request.startYear());
+        validateYear(request.endYear());
+        if (request.startYear() > request.endYear()) {
+            throw new BadRequestException("시작 연도가 종료 연도보다 늦습니다.");
+        }
+
+        Set<Country> countries = new LinkedHashSet<>();
+        for (String countryCode : request.countryCodes()) {
+            countries.add(countryRegistry.find(countryCode)
+                    .orElseThrow(() -> new BadRequestException("등록되지 않은 국가 코드입니다: " + countryCode)));
+        }
+        for (Country country : countries) {
+            for (int year = request.startYear(); year <= request.endYear(); year++) {
+                yearLoader.ensureLoaded(country, year);
+            }
         }
+
+        Map<String, List<HolidayResponse>> holidays = holidayIndex.findAll(
+                countries, request.startYear(), request.endYear(), request.type()
+        );
+        return countries.stream()
+                .map(country -> new CountryHolidaysResponse(
+                        country.getCountryCode(),
+                        country.getName(),
+                        holidays.get(country.getCountryCode())
+                ))
+                .toList();
+    }
+
+    public boolean[] lookupHolidays(HolidayLookupRequest request) {
+        List<HolidayLookupRequest.Item> items = request.items();
+        Map<String, Country> countries = new HashMap<>();
+        for (HolidayLookupRequest.Item item : items) {
+            validateYear(item.date().getYear());
+            countries.computeIfAbsent(item.countryCode(), code -> countryRegistry.find(code)
+                    .orElseThrow(() -> new BadRequestException("등록되지 않은 국가 코드입니다: " + code)));
+        }
+        Set<String> countryYears = new HashSet<>();
+        for (HolidayLookupRequest.Item item : items) {
+            if (countryYears.add(item.countryCode() + ":" + item.date().getYear())) {
+                yearLoader.ensureLoaded(countries.get(item.countryCode()), item.date().getYear());
+            }
+        }
+
+        holidayDateIndex.loadMissing(countries.keySet());
+        boolean[] holidays = new boolean[items.size()];
+        for (int i = 0; i < holidays.length; i++) {
+            HolidayLookupRequest.Item item = items.get(i);
+            holidays[i] = holidayDateIndex.isHoliday(item.countryCode(), item.date());
+        }
+        return holidays;
+    }
+
+    private Country findSearchCountry(HolidaySearchFilter request) {
+        return countryRegistry.find(request.countryCode())
+                .orElseThrow(() -> new BadRequestException("등록되지 않은 국가 코드입니다"));
+    }
+
+    private void validateYear(int year) {
+        yearProperties.validate(year);
     }
 
     private HolidaySearchCondition convertToCondition(Country country, HolidaySearchFilter request) {
@@ -53,22 +141,18 @@ public class HolidayService {
                 .build();
     }
 
-    public void upsertByCountryCodeAndYear(String countryCode, int year) {
-        Country targetCountry = countryRepository.findById(countryCode)
+    public HolidayMergeResult upsertByCountryCodeAndYear(String countryCode, int year) {
+        validateYear(year);
+        Country targetCountry = countryRegistry.find(countryCode)
                 .orElseThrow(() -> new BadRequestException("존재하지 않는 국가 코드입니다"));
 
-        List<Holiday> existHolidays = holidayRepository.findByCountryAndYear(targetCountry, year);
-
-        nagerDataLoadService.loadHolidaysByCountryAndYear(targetCountry, year);
-
-        holidayRepository.deleteAll(existHolidays);
+        return yearLoader.refresh(targetCountry, year);
     }
 
     public void deleteByCountryCodeAndYear(String countryCode, Integer year) {
-        Country targetCountry = countryRepository.findById(countryCode)
+        Country targetCountry = countryRegistry.find(countryCode)
                 .orElseThrow(() -> new BadRequestException("존재하지 않는 국가 코드입니다"));
 
-        List<Holiday> existHolidays = holidayRepository.findByCountryAndYear(targetCountry, year);
-        holidayRepository.deleteAll(existHolidays);
+        yearLoader.delete(targetCountry, year);
     }
 }
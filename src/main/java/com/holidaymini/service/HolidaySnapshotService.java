@@ -0,0 +1,274 @@
+package com.holidaymini.service;
+
+import com.holidaymini.domain.Country;
+import com.holidaymini.domain.Holiday;
+import com.holidaymini.domain.HolidayDetail;
+import com.holidaymini.domain.HolidaySyncState;
+import com.holidaymini.domain.HolidayType;
+import com.holidaymini.repository.CountryRepository;
+import com.holidaymini.repository.HolidayBulkRepository;
+import com.holidaymini.repository.HolidaySyncStateRepository;
+import com.holidaymini.repository.dto.HolidayRow;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HolidaySnapshotService {
+
+    private static final int MAGIC = 0x484D534E; // "HMSN"
+    private static final short FORMAT_VERSION = 1;
+    private static final int CHECKSUM_BYTES = Long.BYTES;
+
+    private final CountryRepository countryRepository;
+    private final HolidayBulkRepository holidayBulkRepository;
+    private final HolidaySyncStateRepository syncStateRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${data-loader.snapshot.enabled:false}")
+    private boolean enabled;
+
+    @Value("${data-loader.snapshot.path:data/holiday-snapshot.bin}")
+    private Path path;
+
+    @Value("${data-loader.snapshot.max-age:24h}")
+    private Duration maxAge;
+
+    @Value("${data-loader.batch-size:500}")
+    private int batchSize;
+
+    @Transactional
+    public boolean restore(int startYear, int endYear) {
+        if (!enabled || !Files.isRegularFile(path)) {
+            return false;
+        }
+
+        try {
+            if (!hasValidChecksum()) {
+                log.warn("스냅샷 체크섬이 일치하지 않아 무시합니다: {}", path);
+                return false;
+            }
+
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+                if (!isUsable(in, startYear, endYear)) {
+                    return false;
+                }
+                int holidayCount = readData(in);
+                log.info("스냅샷에서 공휴일 {}개를 복원했습니다: {}", holidayCount, path);
+                return true;
+            }
+        } catch (IOException e) {
+            log.warn("스냅샷을 읽을 수 없어 무시합니다: {}", e.getMessage());
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return false;
+        } catch (RuntimeException e) {
+            // 체크섬은 맞아도 저장 중 제약 조건 위반 등으로 실패할 수 있다. 시작을 막지 않고 네트워크 적재로 넘긴다
+            log.warn("스냅샷을 복원하지 못해 무시합니다: {}", e.getMessage());
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return false;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void write(int startYear, int endYear) {
+        if (!enabled) {
+            return;
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+
+            try (DataOutputStream out = new DataOutputStream(
+                    new CheckedOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)), crc))) {
+                writeHeader(out, startYear, endYear);
+                writeData(out);
+                out.flush();
+                out.writeLong(crc.getValue());
+            }
+
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("공휴일 스냅샷을 저장했습니다: {} ({} bytes)", path, Files.size(path));
+        } catch (IOException e) {
+            log.warn("공휴일 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean hasValidChecksum() throws IOException {
+        long payloadSize = Files.size(path) - CHECKSUM_BYTES;
+        if (payloadSize <= 0) {
+            return false;
+        }
+
+        CRC32 crc = new CRC32();
+        try (InputStream raw = new BufferedInputStream(Files.newInputStream(path));
+             CheckedInputStream checked = new CheckedInputStream(raw, crc)) {
+            byte[] buffer = new byte[8192];
+            long remaining = payloadSize;
+            while (remaining > 0) {
+                int read = checked.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    return false;
+                }
+                remaining -= read;
+            }
+            return new DataInputStream(raw).readLong() == crc.getValue();
+        }
+    }
+
+    private void writeHeader(DataOutputStream out, int startYear, int endYear) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeLong(Instant.now().toEpochMilli());
+        out.writeShort(startYear);
+        out.writeShort(endYear);
+    }
+
+    private boolean isUsable(DataInputStream in, int startYear, int endYear) throws IOException {
+        if (in.readInt() != MAGIC || in.readShort() != FORMAT_VERSION) {
+            log.warn("지원하지 않는 스냅샷 형식입니다: {}", path);
+            return false;
+        }
+
+        Instant createdAt = Instant.ofEpochMilli(in.readLong());
+        if (createdAt.plus(maxAge).isBefore(Instant.now())) {
+            log.info("스냅샷이 만료되어 외부 API에서 다시 적재합니다. (생성 시각: {})", createdAt);
+            return false;
+        }
+
+        if (in.readShort() != startYear || in.readShort() != endYear) {
+            log.info("스냅샷의 적재 연도 범위가 달라 외부 API에서 다시 적재합니다.");
+            return false;
+        }
+        return true;
+    }
+
+    private void writeData(DataOutputStream out) throws IOException {
+        List<Country> countries = countryRepository.findAll();
+        out.writeInt(countries.size());
+        for (Country country : countries) {
+            out.writeUTF(country.getCountryCode());
+            out.writeUTF(country.getName());
+        }
+
+        try {
+            holidayBulkRepository.forEachRow(row -> writeHoliday(out, row));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.writeBoolean(false);
+
+        List<HolidaySyncState> syncStates = syncStateRepository.findAll();
+        out.writeInt(syncStates.size());
+        for (HolidaySyncState syncState : syncStates) {
+            out.writeUTF(syncState.getCountryCode());
+            out.writeShort(syncState.getYear());
+            out.writeUTF(syncState.getFingerprint());
+            writeNullableUTF(out, syncState.getEtag());
+            writeNullableUTF(out, syncState.getLastModified());
+        }
+    }
+
+    private void writeHoliday(DataOutputStream out, HolidayRow row) {
+        try {
+            out.writeBoolean(true);
+            out.writeUTF(row.countryCode());
+            out.writeInt((int) row.date().toEpochDay());
+            out.writeUTF(row.name());
+            out.writeUTF(row.localName());
+            out.writeBoolean(row.fixed());
+            out.writeBoolean(row.global());
+            out.writeByte(row.typeMask());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int readData(DataInputStream in) throws IOException {
+        int countryCount = in.readInt();
+        Map<String, Country> countries = new HashMap<>(countryCount * 2);
+        for (int i = 0; i < countryCount; i++) {
+            Country country = new Country(in.readUTF(), in.readUTF());
+            countries.put(country.getCountryCode(), country);
+        }
+        countryRepository.saveAllAndFlush(countries.values());
+        eventPublisher.publishEvent(new CountriesLoadedEvent(countries.size()));
+
+        int holidayCount = 0;
+        List<Holiday> batch = new ArrayList<>(batchSize);
+        while (in.readBoolean()) {
+            Country country = countries.get(in.readUTF());
+            LocalDate date = LocalDate.ofEpochDay(in.readInt());
+            String name = in.readUTF();
+            String localName = in.readUTF();
+            boolean fixed = in.readBoolean();
+            boolean global = in.readBoolean();
+            HolidayDetail detail = new HolidayDetail(fixed, global, localName, HolidayType.fromMask(in.readUnsignedByte()));
+            batch.add(new Holiday(country, date, name, detail));
+            holidayCount++;
+
+            if (batch.size() >= batchSize) {
+                holidayBulkRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        holidayBulkRepository.saveAll(batch);
+
+        int syncStateCount = in.readInt();
+        List<HolidaySyncState> syncStates = new ArrayList<>(syncStateCount);
+        for (int i = 0; i < syncStateCount; i++) {
+            syncStates.add(new HolidaySyncState(
+                    in.readUTF(),
+                    in.readShort(),
+                    in.readUTF(),
+                    readNullableUTF(in),
+                    readNullableUTF(in)
+            ));
+        }
+        // 제약 조건 위반이 커밋 시점이 아니라 여기서 드러나도록 바로 반영한다
+        syncStateRepository.saveAllAndFlush(syncStates);
+
+        return holidayCount;
+    }
+
+    private static void writeNullableUTF(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableUTF(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
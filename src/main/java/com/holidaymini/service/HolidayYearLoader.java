@@ -0,0 +1,114 @@
+package com.holidaymini.service;
+
+import com.holidaymini.config.HolidayYearProperties;
+import com.holidaymini.domain.Country;
+import com.holidaymini.repository.HolidaySyncStateRepository;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 미리 적재하지 않은 국가-연도를 처음 조회될 때 공급자에서 불러오고, 국가-연도 단위 갱신과 삭제를 조정한다.
+ * 지연 적재와 갱신 요청이 같은 국가-연도로 동시에 들어오면 공급자 호출과 병합은 한 번만 하고 나머지는 그 결과를 기다린다.
+ * 같은 국가-연도의 갱신과 삭제는 겹치지 않고 차례로 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayYearLoader {
+
+    private final NagerDataLoadService nagerDataLoadService;
+    private final HolidayMerger holidayMerger;
+    private final HolidaySyncStateRepository syncStateRepository;
+    private final HolidayYearProperties yearProperties;
+
+    private final SingleFlight<Key, HolidayMergeResult> inFlight = new SingleFlight<>();
+    private final Set<Key> loaded = ConcurrentHashMap.newKeySet();
+    private final Map<Key, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    // 웹 서버는 시작 적재(ApplicationRunner)가 끝나기 전부터 요청을 받는다. 그 사이에 불러오면 적재 파이프라인과 같은 행을 두 번 넣는다
+    private volatile boolean ready;
+
+    // 변경 이벤트 리스너 안에서 부르면 자기 자신을 기다리게 되므로, 조회 경로에서만 부른다
+    public void ensureLoaded(Country country, int year) {
+        if (!yearProperties.lazyLoad() || !ready) {
+            return;
+        }
+        Key key = new Key(country.getCountryCode(), year);
+        if (loaded.contains(key)) {
+            return;
+        }
+        // 동기화 이력이 있으면 이미 적재된 것이므로 공급자를 부르지 않는다
+        if (syncStateRepository.findByCountryCodeAndYear(country.getCountryCode(), year).isEmpty()) {
+            log.info("{}년 {} 공휴일이 적재되어 있지 않아 공급자에서 불러옵니다.", year, country.getCountryCode());
+            // 이력을 확인한 뒤 삭제가 먼저 끝났으면 지운 국가-연도를 다시 채우지 않는다
+            inFlight.execute(key, () -> locked(key, () -> loaded.contains(key)
+                    ? HolidayMergeResult.UNCHANGED
+                    : nagerDataLoadService.refreshHolidaysByCountryAndYear(country, year)));
+        }
+        loaded.add(key);
+    }
+
+    // 두 병합이 동시에 빈 상태를 읽으면 같은 행을 두 번 넣으므로, 진행 중인 갱신이 있으면 새로 시작하지 않고 그 결과를 받는다
+    public HolidayMergeResult refresh(Country country, int year) {
+        Key key = new Key(country.getCountryCode(), year);
+        HolidayMergeResult result = inFlight.execute(
+                key,
+                () -> locked(key, () -> nagerDataLoadService.refreshHolidaysByCountryAndYear(country, year))
+        );
+        loaded.add(key);
+        return result;
+    }
+
+    // 갱신은 트랜잭션 밖에서 읽은 동기화 이력으로 병합하므로, 그 사이에 삭제가 끝나면 지운 행을 다시 넣거나 사라진 이력을 고치려다 실패한다
+    // 삭제한 국가-연도는 적재된 것으로 남겨 조회가 공급자에서 다시 채우지 않게 하고, 명시적인 갱신만 다시 불러오게 한다
+    public int delete(Country country, int year) {
+        Key key = new Key(country.getCountryCode(), year);
+        return locked(key, () -> {
+            int deleted = holidayMerger.delete(country, year);
+            loaded.add(key);
+            return deleted;
+        });
+    }
+
+    public void clear() {
+        loaded.clear();
+    }
+
+    int waiting(String countryCode, int year) {
+        return inFlight.waiting(new Key(countryCode, year));
+    }
+
+    int queued(String countryCode, int year) {
+        ReentrantLock lock = locks.get(new Key(countryCode, year));
+        return lock != null ? lock.getQueueLength() : 0;
+    }
+
+    // 가상 스레드에서 synchronized로 기다리면 캐리어 스레드를 붙잡으므로 ReentrantLock을 쓴다
+    private <T> T locked(Key key, Supplier<T> work) {
+        ReentrantLock lock = locks.computeIfAbsent(key, ignored -> new ReentrantLock());
+        lock.lock();
+        try {
+            return work.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ApplicationReadyEvent는 모든 ApplicationRunner가 끝난 뒤에 발행된다
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        ready = true;
+    }
+
+    private record Key(String countryCode, int year) {
+
+    }
+}
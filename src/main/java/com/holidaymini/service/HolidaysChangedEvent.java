@@ -0,0 +1,7 @@
+package com.holidaymini.service;
+
+import com.holidaymini.domain.Country;
+
+public record HolidaysChangedEvent(Country country, int year) {
+
+}
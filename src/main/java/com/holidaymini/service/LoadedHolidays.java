@@ -0,0 +1,12 @@
+package com.holidaymini.service;
+
+import com.holidaymini.domain.HolidaySyncState;
+import com.holidaymini.repository.dto.HolidayRow;
+import java.util.List;
+
+public record LoadedHolidays(
+        List<HolidayRow> rows,
+        HolidaySyncState syncState
+) {
+
+}
@@ -0,0 +1,45 @@
+package com.holidaymini.service;
+
+import com.holidaymini.exception.InternalServerException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LoaderThrottle {
+
+    private final Semaphore fetchPermits;
+    private final Semaphore writePermits;
+
+    public LoaderThrottle(
+            @Value("${data-loader.max-concurrent-fetches:40}") int maxConcurrentFetches,
+            @Value("${data-loader.max-concurrent-writes:4}") int maxConcurrentWrites
+    ) {
+        this.fetchPermits = new Semaphore(maxConcurrentFetches, true);
+        this.writePermits = new Semaphore(maxConcurrentWrites, true);
+    }
+
+    public <T> T fetch(Supplier<T> task) {
+        return withPermit(fetchPermits, task);
+    }
+
+    public <T> T write(Supplier<T> task) {
+        return withPermit(writePermits, task);
+    }
+
+    private <T> T withPermit(Semaphore permits, Supplier<T> task) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException("데이터 로드 작업이 중단되었습니다.");
+        }
+
+        try {
+            return task.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -3,18 +3,27 @@ package com.holidaymini.service;
 import com.holidaymini.domain.Country;
 import com.holidaymini.domain.Holiday;
 import com.holidaymini.domain.HolidayDetail;
+import com.holidaymini.domain.HolidaySyncState;
 import com.holidaymini.domain.HolidayType;
+import com.holidaymini.external.nager.NagerAsyncClient;
+import com.holidaymini.external.nager.HolidayRowSink;
 import com.holidaymini.external.nager.NagerDateClient;
 import com.holidaymini.external.nager.dto.CountryResponse;
+import com.holidaymini.external.nager.dto.HolidayFetchResult;
 import com.holidaymini.external.nager.dto.PublicHolidayResponse;
 import com.holidaymini.repository.CountryRepository;
-import com.holidaymini.repository.HolidayRepository;
+import com.holidaymini.repository.HolidayBulkRepository;
+import com.holidaymini.repository.HolidaySyncStateRepository;
+import com.holidaymini.repository.dto.HolidayRow;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,43 +33,80 @@ import org.springframework.transaction.annotation.Transactional;
 public class NagerDataLoadService {
 
     private final NagerDateClient nagerDateClient;
+    private final NagerAsyncClient nagerAsyncClient;
     private final CountryRepository countryRepository;
-    private final HolidayRepository holidayRepository;
-
-    private final AtomicInteger successfulCountries = new AtomicInteger(0);
-    private final AtomicInteger failedCountries = new AtomicInteger(0);
+    private final HolidayBulkRepository holidayBulkRepository;
+    private final HolidayMerger holidayMerger;
+    private final HolidaySyncStateRepository syncStateRepository;
+    private final LoaderThrottle loaderThrottle;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Set<Country> loadCountries() {
         List<CountryResponse> countryResponses = nagerDateClient.getAvailableCountries();
         Set<Country> countries = convertToCountries(countryResponses);
         countryRepository.saveAll(countries);
+        eventPublisher.publishEvent(new CountriesLoadedEvent(countries.size()));
         log.info("{}개 국가 정보를 저장했습니다.", countries.size());
         return countries;
     }
 
-    @Transactional
-    public void loadHolidaysByCountryAndYear(Country country, int year) {
-        try {
-            List<PublicHolidayResponse> holidayResponses = nagerDateClient.getPublicHolidays(
-                    year,
-                    country.getCountryCode()
-            );
-            List<Holiday> holidays = convertToHolidays(holidayResponses, country);
-            holidayRepository.saveAll(holidays);
-            log.debug("{}년 {} 공휴일 {}개 저장", year, country.getCountryCode(), holidays.size());
-
-            successfulCountries.incrementAndGet();
-        } catch (Exception e) {
-            log.warn("국가 {}의 공휴일 데이터 로드 실패: {}", country.getCountryCode(), e.getMessage());
-            failedCountries.incrementAndGet();
+    public HolidayMergeResult refreshHolidaysByCountryAndYear(Country country, int year) {
+        String countryCode = country.getCountryCode();
+        Optional<HolidaySyncState> syncState = syncStateRepository.findByCountryCodeAndYear(countryCode, year);
+
+        HolidayFetchResult fetched = fetchHolidays(country, year, syncState.orElse(null));
+        if (fetched.notModified()) {
+            log.debug("{}년 {} 공휴일 변경 없음 (304) - 재동기화를 건너뜁니다.", year, countryCode);
+            return HolidayMergeResult.UNCHANGED;
+        }
+
+        String fingerprint = HolidayFingerprint.of(fetched.holidays());
+        if (syncState.filter(state -> state.hasFingerprint(fingerprint)).isPresent()) {
+            log.debug("{}년 {} 공휴일 변경 없음 - 재동기화를 건너뜁니다.", year, countryCode);
+            return HolidayMergeResult.UNCHANGED;
         }
+
+        HolidaySyncState updated = syncState.orElseGet(
+                () -> new HolidaySyncState(countryCode, year, fingerprint, null, null)
+        );
+        updated.update(fingerprint, fetched.etag(), fetched.lastModified());
+
+        List<Holiday> holidays = convertToHolidays(fetched.holidays(), country);
+        HolidayMergeResult result = loaderThrottle.write(
+                () -> holidayMerger.merge(country, year, holidays, updated)
+        );
+
+        log.debug("{}년 {} 공휴일 병합 - 추가 {}, 수정 {}, 삭제 {}",
+                year, countryCode, result.added(), result.updated(), result.removed());
+        return result;
     }
 
-    private Set<Country> convertToCountries(List<CountryResponse> countryResponses) {
-        return countryResponses.stream()
-                .map(response -> new Country(response.countryCode(), response.name()))
-                .collect(Collectors.toSet());
+    public CompletableFuture<LoadedHolidays> loadHolidaysAsync(Country country, int year) {
+        String countryCode = country.getCountryCode();
+        List<HolidayRow> rows = new ArrayList<>();
+        HolidayRowSink sink = (date, name, localName, fixed, global, typeMask) -> rows.add(
+                new HolidayRow(0L, countryCode, date, name, localName, fixed, global, typeMask)
+        );
+
+        return nagerAsyncClient.streamPublicHolidays(year, countryCode, null, null, sink)
+                .thenApply(result -> new LoadedHolidays(rows, new HolidaySyncState(
+                        countryCode,
+                        year,
+                        HolidayFingerprint.ofRows(rows),
+                        result.etag(),
+                        result.lastModified()
+                )));
+    }
+
+    // 공휴일만 커밋되고 동기화 이력 저장이 실패하면 이력 없는 행이 남으므로 한 트랜잭션에서 함께 저장한다
+    @Transactional
+    public int saveBatch(List<HolidayRow> rows, List<HolidaySyncState> syncStates) {
+        return loaderThrottle.write(() -> {
+            int saved = holidayBulkRepository.saveRows(rows);
+            syncStateRepository.saveAll(syncStates);
+            return saved;
+        });
     }
 
     private List<Holiday> convertToHolidays(List<PublicHolidayResponse> holidayResponses, Country country) {
@@ -69,6 +115,21 @@ public class NagerDataLoadService {
                 .toList();
     }
 
+    private HolidayFetchResult fetchHolidays(Country country, int year, HolidaySyncState syncState) {
+        String etag = syncState != null ? syncState.getEtag() : null;
+        String lastModified = syncState != null ? syncState.getLastModified() : null;
+
+        return loaderThrottle.fetch(
+                () -> nagerDateClient.getPublicHolidays(year, country.getCountryCode(), etag, lastModified)
+        );
+    }
+
+    private Set<Country> convertToCountries(List<CountryResponse> countryResponses) {
+        return countryResponses.stream()
+                .map(response -> new Country(response.countryCode(), response.name()))
+                .collect(Collectors.toSet());
+    }
+
     private Holiday convertToHoliday(PublicHolidayResponse response, Country country) {
         Set<HolidayType> types = response.types()
                 .stream()
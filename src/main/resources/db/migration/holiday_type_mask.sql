@@ -0,0 +1,26 @@
+-- holiday_types 컬렉션 테이블을 holiday.type_mask 비트마스크 컬럼으로 옮긴다.
+-- 비트 값은 HolidayType.mask() (1 << ordinal) 와 같아야 한다.
+--   PUBLIC=1, BANK=2, SCHOOL=4, AUTHORITIES=8, OPTIONAL=16, OBSERVANCE=32
+-- 기본 설정(ddl-auto: create-drop)에서는 필요 없고, 기존 데이터를 유지하는 데이터베이스에서 한 번 실행한다.
+
+ALTER TABLE holiday ADD COLUMN type_mask INTEGER DEFAULT 0 NOT NULL;
+
+-- 한 공휴일 안에서 유형은 중복되지 않으므로 비트 값의 합이 곧 OR 결과다
+UPDATE holiday h
+SET type_mask = (
+    SELECT COALESCE(SUM(CASE t.types
+                            WHEN 'PUBLIC' THEN 1
+                            WHEN 'BANK' THEN 2
+                            WHEN 'SCHOOL' THEN 4
+                            WHEN 'AUTHORITIES' THEN 8
+                            WHEN 'OPTIONAL' THEN 16
+                            WHEN 'OBSERVANCE' THEN 32
+                            ELSE 0
+                        END), 0)
+    FROM holiday_types t
+    WHERE t.holiday_id = h.holiday_id
+);
+
+CREATE INDEX idx_holiday_country_year_type ON holiday (country_id, holiday_year, type_mask);
+
+DROP TABLE holiday_types;
@@ -0,0 +1,83 @@
+package com.holidaymini.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaymini.service.LoaderThrottle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Tag("benchmark")
+@DisplayName("로더 Executor 벤치마크")
+class LoaderExecutorBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoaderExecutorBenchmarkTest.class);
+
+    private static final int COUNTRIES = 120;
+    // 두 Executor 모두 같은 조회 한도로 돌려야 한도가 아니라 Executor 차이만 잰다
+    private static final int FETCH_LIMIT = 40;
+    private static final int WRITE_LIMIT = 4;
+    private static final int YEARS = 6;
+    private static final long FETCH_LATENCY_MILLIS = 80;
+    private static final long WRITE_LATENCY_MILLIS = 2;
+
+    @Test
+    @DisplayName("고정 플랫폼 스레드 풀과 가상 스레드 Executor의 적재 시간을 비교한다")
+    void comparePlatformPoolWithVirtualThreads() {
+        ThreadPoolTaskExecutor platform = AsyncConfig.platformLoaderExecutor();
+        SimpleAsyncTaskExecutor virtual = AsyncConfig.virtualLoaderExecutor();
+
+        try {
+            // warm-up
+            simulateLoad(platform, new LoaderThrottle(FETCH_LIMIT, WRITE_LIMIT));
+            simulateLoad(virtual, new LoaderThrottle(FETCH_LIMIT, WRITE_LIMIT));
+
+            long platformMillis = simulateLoad(platform, new LoaderThrottle(FETCH_LIMIT, WRITE_LIMIT));
+            long virtualMillis = simulateLoad(virtual, new LoaderThrottle(FETCH_LIMIT, WRITE_LIMIT));
+
+            log.info("[BENCHMARK] platform pool(20/40/200), fetch={}, write={}: {} ms",
+                    FETCH_LIMIT, WRITE_LIMIT, platformMillis);
+            log.info("[BENCHMARK] virtual threads, fetch={}, write={}: {} ms", FETCH_LIMIT, WRITE_LIMIT, virtualMillis);
+        } finally {
+            platform.shutdown();
+            virtual.close();
+        }
+    }
+
+    private long simulateLoad(Executor executor, LoaderThrottle throttle) {
+        AtomicInteger completed = new AtomicInteger();
+        long start = System.nanoTime();
+
+        for (int year = 0; year < YEARS; year++) {
+            CompletableFuture<?>[] futures = IntStream.range(0, COUNTRIES)
+                    .mapToObj(country -> CompletableFuture.runAsync(() -> {
+                        throttle.fetch(() -> sleep(FETCH_LATENCY_MILLIS));
+                        throttle.write(() -> sleep(WRITE_LATENCY_MILLIS));
+                        completed.incrementAndGet();
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(futures).join();
+        }
+
+        assertThat(completed).hasValue(COUNTRIES * YEARS);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static Void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
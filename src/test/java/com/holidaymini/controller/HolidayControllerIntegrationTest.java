@@ -3,9 +3,17 @@ package com.holidaymini.controller;
 import static io.restassured.http.ContentType.JSON;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.holidaymini.controller.dto.HolidayLookupRequest;
 import com.holidaymini.controller.dto.HolidaySearchFilter;
 import com.holidaymini.domain.Country;
 import com.holidaymini.domain.Holiday;
@@ -13,7 +21,12 @@ import com.holidaymini.domain.HolidayDetail;
 import com.holidaymini.domain.HolidayType;
 import com.holidaymini.repository.CountryRepository;
 import com.holidaymini.repository.HolidayRepository;
+import com.holidaymini.service.CountryRegistry;
+import com.holidaymini.service.HolidayDateIndex;
+import com.holidaymini.service.HolidayIndex;
+import com.holidaymini.service.HolidaySearchCache;
 import io.restassured.RestAssured;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.EnumSet;
 import java.util.List;
@@ -39,6 +52,18 @@ class HolidayControllerIntegrationTest {
     @Autowired
     HolidayRepository holidayRepository;
 
+    @Autowired
+    HolidayIndex holidayIndex;
+
+    @Autowired
+    CountryRegistry countryRegistry;
+
+    @Autowired
+    HolidaySearchCache searchCache;
+
+    @Autowired
+    HolidayDateIndex holidayDateIndex;
+
     private Country kr;
     private Country us;
 
@@ -77,6 +102,10 @@ class HolidayControllerIntegrationTest {
         // KR 2022 공휴일 1건
         HolidayDetail detail5 = new HolidayDetail(true, false, "설날(22)", EnumSet.of(HolidayType.PUBLIC));
         holidayRepository.save(new Holiday(kr, LocalDate.of(2022, 2, 1), "Lunar New Year 2022", detail5));
+        countryRegistry.refresh();
+        holidayIndex.clear();
+        searchCache.invalidateAll();
+        holidayDateIndex.clear();
 
         RestAssured.port = port;
     }
@@ -151,6 +180,63 @@ class HolidayControllerIntegrationTest {
                 ).body("pageInfo.totalElements", equalTo(1));
     }
 
+    @Test
+    @DisplayName("커서 검색 - 다음 커서로 이어서 조회하고 전체 건수는 내려주지 않는다")
+    void testScrollByCursor() {
+        HolidaySearchFilter filter = new HolidaySearchFilter("KR", 2025, null, null, null);
+
+        String nextCursor = RestAssured.given().contentType(JSON).body(filter)
+                .when().post("/api/holidays/scroll?size=2")
+                .then().statusCode(200).body("content.name", contains("Lunar New Year", "Dobby Birthday"))
+                .body("hasNext", equalTo(true))
+                .body("pageInfo", nullValue())
+                .extract().path("nextCursor");
+
+        RestAssured.given().contentType(JSON).body(filter)
+                .when().post("/api/holidays/scroll?size=2&cursor=" + nextCursor)
+                .then().statusCode(200).body("content.name", contains("Chuseok"))
+                .body("hasNext", equalTo(false))
+                .body("nextCursor", nullValue());
+    }
+
+    @Test
+    @DisplayName("내보내기 - 조건 없이 요청하면 모든 공휴일을 한 줄에 하나씩 NDJSON으로 내려준다")
+    void testExportNdjson() {
+        String body = RestAssured.given()
+                .when().get("/api/holidays/export")
+                .then().statusCode(200).contentType("application/x-ndjson")
+                .extract().asString();
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(10);
+        assertThat(lines).filteredOn(line -> line.contains("\"countryCode\":\"US\""))
+                .singleElement()
+                .satisfies(line -> assertThat(line).contains("\"name\":\"Fourth of July\"", "\"types\":[\"PUBLIC\"]"));
+    }
+
+    @Test
+    @DisplayName("내보내기 - 국가, 연도, 유형으로 걸러 CSV로 내려준다")
+    void testExportCsvWithFilters() {
+        String body = RestAssured.given()
+                .when().get("/api/holidays/export?format=csv&countryCode=KR&year=2025&year=2024&type=AUTHORITIES")
+                .then().statusCode(200)
+                .extract().asString();
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).isEqualTo("id,countryCode,countryName,date,year,name,localName,isFixed,isGlobal,types");
+        assertThat(lines.get(1)).contains(",KR,Korea,2024-02-14,2024,Dobby Birthday,", "PUBLIC|BANK|AUTHORITIES");
+        assertThat(lines.get(2)).contains(",KR,Korea,2025-02-14,2025,Dobby Birthday,", "PUBLIC|BANK|AUTHORITIES");
+    }
+
+    @Test
+    @DisplayName("내보내기 - 등록되지 않은 국가 코드가 있으면 스트리밍을 시작하기 전에 400 에러를 반환한다")
+    void testExportInvalidCountryCode() {
+        RestAssured.given()
+                .when().get("/api/holidays/export?countryCode=KR&countryCode=ZZ")
+                .then().statusCode(400);
+    }
+
     @Test
     @DisplayName("정렬 옵션 변경 시 결과가 올바르게 정렬된다")
     void testSorting() {
@@ -220,4 +306,106 @@ class HolidayControllerIntegrationTest {
         List<Holiday> actualHolidays = holidayRepository.findByCountryAndYear(korea, year);
         assertThat(actualHolidays).isEmpty();
     }
+
+    @Test
+    @DisplayName("대량 공휴일 확인 요청은 항목 순서대로 여부 배열을 반환한다")
+    void lookupHolidays() {
+        HolidayLookupRequest request = new HolidayLookupRequest(List.of(
+                new HolidayLookupRequest.Item("KR", LocalDate.of(2025, 2, 12)),
+                new HolidayLookupRequest.Item("US", LocalDate.of(2025, 2, 12)),
+                new HolidayLookupRequest.Item("KR", LocalDate.of(2025, 9, 21))
+        ));
+
+        RestAssured.given().contentType(JSON).body(request)
+                .when().post("/api/holidays/lookup")
+                .then().statusCode(200)
+                .body("count", equalTo(3))
+                .body("holidays", contains(true, false, true));
+    }
+
+    @Test
+    @DisplayName("ETag가 같으면 검색 없이 304를 반환하고, 데이터가 바뀌면 새 ETag로 본문을 반환한다")
+    void conditionalSearch() {
+        String eTag = RestAssured.given()
+                .when().get("/api/holidays?countryCode=KR&year=2025")
+                .then().statusCode(200)
+                .body("content", hasSize(3))
+                .extract().header("ETag");
+
+        RestAssured.given().header("If-None-Match", eTag)
+                .when().get("/api/holidays?countryCode=KR&year=2025")
+                .then().statusCode(304)
+                .header("ETag", equalTo(eTag));
+
+        RestAssured.given().contentType(JSON).header("If-None-Match", eTag)
+                .body(new HolidaySearchFilter("KR", 2025, null, null, null))
+                .when().post("/api/holidays")
+                .then().statusCode(304);
+
+        RestAssured.given()
+                .when().delete("/api/holidays?countryCode=KR&year=2025")
+                .then().statusCode(204);
+
+        RestAssured.given().header("If-None-Match", eTag)
+                .when().get("/api/holidays?countryCode=KR&year=2025")
+                .then().statusCode(200)
+                .header("ETag", not(equalTo(eTag)))
+                .body("content", hasSize(0));
+    }
+
+    @Test
+    @DisplayName("국가-연도 전체 조회는 gzip을 받지 않는 클라이언트에 원본 JSON과 별도 ETag를 반환한다")
+    void serializedSearch_Identity() {
+        String gzipETag = RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().get("/api/holidays?countryCode=KR&year=2025")
+                .then().statusCode(200)
+                .header("ETag", endsWith("-gzip\""))
+                .extract().header("ETag");
+
+        RestAssured.given().header("Accept-Encoding", "identity")
+                .when().get("/api/holidays?countryCode=KR&year=2025")
+                .then().statusCode(200)
+                .header("ETag", not(equalTo(gzipETag)))
+                .header("Content-Encoding", nullValue())
+                .header("Vary", containsString("Accept-Encoding"))
+                .body("content", hasSize(3))
+                .body("pageInfo.totalElements", equalTo(3));
+    }
+
+    @Test
+    @DisplayName("Accept가 CBOR이면 행을 epoch day와 유형 비트마스크 배열로 담은 CBOR로 응답한다")
+    void searchCbor() throws IOException {
+        byte[] body = RestAssured.given().header("Accept", "application/cbor")
+                .when().get("/api/holidays?countryCode=KR&year=2025")
+                .then().statusCode(200)
+                .contentType("application/cbor")
+                .header("ETag", endsWith("-cbor\""))
+                .extract().asByteArray();
+
+        JsonNode page = new ObjectMapper(new CBORFactory()).readTree(body);
+        assertThat(page.get("countryCode").asText()).isEqualTo("KR");
+        assertThat(page.get("totalElements").asLong()).isEqualTo(3);
+        JsonNode first = page.get("holidays").get(0);
+        assertThat(first.get(1).asLong()).isEqualTo(LocalDate.of(2025, 2, 12).toEpochDay());
+        assertThat(first.get(2).asText()).isEqualTo("Lunar New Year");
+        assertThat(first.get(6).asInt()).isEqualTo(HolidayType.PUBLIC.mask());
+    }
+
+    @Test
+    @DisplayName("내보내기 - CBOR 형식은 행마다 최상위 배열을 이어 쓴다")
+    void testExportCbor() throws IOException {
+        byte[] body = RestAssured.given().header("Accept", "application/cbor")
+                .when().get("/api/holidays/export?countryCode=KR&year=2025")
+                .then().statusCode(200)
+                .contentType("application/cbor")
+                .extract().asByteArray();
+
+        List<JsonNode> rows = new ObjectMapper(new CBORFactory()).readerFor(JsonNode.class)
+                .<JsonNode>readValues(body)
+                .readAll();
+        assertThat(rows).hasSize(3);
+        assertThat(rows).allSatisfy(row -> assertThat(row.get(1).asText()).isEqualTo("KR"));
+        assertThat(rows.get(1).get(7).asInt())
+                .isEqualTo(HolidayType.toMask(EnumSet.of(HolidayType.PUBLIC, HolidayType.AUTHORITIES, HolidayType.BANK)));
+    }
 }
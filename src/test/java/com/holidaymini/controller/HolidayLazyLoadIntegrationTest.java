@@ -0,0 +1,108 @@
+package com.holidaymini.controller;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.holidaymini.domain.Country;
+import com.holidaymini.domain.Holiday;
+import com.holidaymini.domain.HolidayDetail;
+import com.holidaymini.domain.HolidaySyncState;
+import com.holidaymini.domain.HolidayType;
+import com.holidaymini.external.nager.NagerDateClient;
+import com.holidaymini.repository.CountryRepository;
+import com.holidaymini.repository.HolidayRepository;
+import com.holidaymini.repository.HolidaySyncStateRepository;
+import com.holidaymini.service.CountryRegistry;
+import com.holidaymini.service.HolidayIndex;
+import com.holidaymini.service.HolidaySearchCache;
+import com.holidaymini.service.HolidayYearLoader;
+import io.restassured.RestAssured;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "holiday.years.lazy-load=true"
+)
+@ActiveProfiles("test")
+@DisplayName("지연 적재 통합 테스트")
+class HolidayLazyLoadIntegrationTest {
+
+    @LocalServerPort
+    int port;
+
+    @MockitoBean
+    NagerDateClient nagerDateClient;
+
+    @Autowired
+    CountryRepository countryRepository;
+
+    @Autowired
+    HolidayRepository holidayRepository;
+
+    @Autowired
+    HolidaySyncStateRepository syncStateRepository;
+
+    @Autowired
+    CountryRegistry countryRegistry;
+
+    @Autowired
+    HolidayIndex holidayIndex;
+
+    @Autowired
+    HolidaySearchCache searchCache;
+
+    @Autowired
+    HolidayYearLoader yearLoader;
+
+    @BeforeEach
+    void setUp() {
+        holidayRepository.deleteAll();
+        countryRepository.deleteAll();
+        syncStateRepository.deleteAll();
+
+        Country kr = countryRepository.save(new Country("KR", "Korea"));
+        HolidayDetail detail = new HolidayDetail(true, false, "설날", EnumSet.of(HolidayType.PUBLIC));
+        holidayRepository.save(new Holiday(kr, LocalDate.of(2025, 2, 12), "Lunar New Year", detail));
+        syncStateRepository.save(new HolidaySyncState("KR", 2025, "fingerprint", null, null));
+
+        countryRegistry.refresh();
+        holidayIndex.clear();
+        searchCache.invalidateAll();
+        yearLoader.clear();
+
+        RestAssured.port = port;
+    }
+
+    @Test
+    @DisplayName("삭제한 국가-연도는 다음 조회에서 공급자로 다시 불러오지 않고 비어 있다")
+    void delete_ThenSearch_StaysEmpty() {
+        RestAssured.given()
+                .when().get("/api/holidays?countryCode=KR&year=2025")
+                .then().statusCode(200)
+                .body("content", hasSize(1));
+
+        RestAssured.given()
+                .when().delete("/api/holidays?countryCode=KR&year=2025")
+                .then().statusCode(204);
+
+        RestAssured.given()
+                .when().get("/api/holidays?countryCode=KR&year=2025")
+                .then().statusCode(200)
+                .body("content", hasSize(0));
+
+        verify(nagerDateClient, never()).getPublicHolidays(anyInt(), anyString(), any(), any());
+    }
+}
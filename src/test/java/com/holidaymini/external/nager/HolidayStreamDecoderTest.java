@@ -0,0 +1,62 @@
+package com.holidaymini.external.nager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.holidaymini.domain.HolidayType;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HolidayStreamDecoder 테스트")
+class HolidayStreamDecoderTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    @DisplayName("공휴일 배열을 한 건씩 디코딩하고 알 수 없는 필드는 건너뛴다")
+    void decode() throws IOException {
+        // given
+        String json = """
+                [
+                  {"date":"2025-01-01","localName":"신정","name":"New Year's Day","countryCode":"KR",
+                   "fixed":true,"global":true,"counties":null,"launchYear":null,"types":["Public"]},
+                  {"date":"2025-05-05","localName":"어린이날","name":"Children's Day","countryCode":"KR",
+                   "fixed":false,"global":false,"counties":["KR-11"],"launchYear":1975,"types":["Public","School"]}
+                ]
+                """;
+        List<String> decoded = new ArrayList<>();
+
+        // when
+        int count;
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            count = HolidayStreamDecoder.decode(parser, (date, name, localName, fixed, global, typeMask) ->
+                    decoded.add(date + "|" + name + "|" + localName + "|" + fixed + "|" + global + "|" + typeMask));
+        }
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(decoded).containsExactly(
+                LocalDate.of(2025, 1, 1) + "|New Year's Day|신정|true|true|" + HolidayType.PUBLIC.mask(),
+                LocalDate.of(2025, 5, 5) + "|Children's Day|어린이날|false|false|"
+                        + (HolidayType.PUBLIC.mask() | HolidayType.SCHOOL.mask())
+        );
+    }
+
+    @Test
+    @DisplayName("배열이 아닌 응답은 JsonParseException이 발생한다")
+    void decode_NotArray() throws IOException {
+        // given
+        try (JsonParser parser = jsonFactory.createParser("{\"message\":\"error\"}")) {
+            // when & then
+            assertThatThrownBy(() -> HolidayStreamDecoder.decode(parser, (date, name, localName, fixed, global, mask) -> {
+            })).isInstanceOf(JsonParseException.class);
+        }
+    }
+}
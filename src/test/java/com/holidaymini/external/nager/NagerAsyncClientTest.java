@@ -0,0 +1,164 @@
+package com.holidaymini.external.nager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.holidaymini.exception.InternalServerException;
+import com.holidaymini.exception.ServiceUnavailableException;
+import com.holidaymini.external.nager.dto.HolidayFetchResult;
+import com.holidaymini.external.resilience.AimdLimiter;
+import com.holidaymini.external.resilience.CircuitBreaker;
+import com.holidaymini.external.resilience.RetryBackoff;
+import com.holidaymini.external.resilience.UpstreamGuard;
+import com.holidaymini.metrics.LoaderMetrics;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("NagerAsyncClient 테스트")
+class NagerAsyncClientTest {
+
+    private static final String HOLIDAYS_JSON = """
+            [{"date":"2025-01-01","localName":"신정","name":"New Year's Day","countryCode":"KR",
+              "fixed":true,"global":true,"types":["Public"]}]
+            """;
+
+    private HttpServer server;
+    private HttpClient httpClient;
+    private UpstreamGuard upstreamGuard;
+    private NagerAsyncClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/PublicHolidays/2025/KR", this::gzippedHolidays);
+        server.createContext("/PublicHolidays/2025/JP", exchange -> {
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            respond(exchange, 304, new byte[0]);
+        });
+        server.createContext("/PublicHolidays/2025/ZZ", exchange -> respond(exchange, 404, new byte[0]));
+        server.createContext("/PublicHolidays/2025/US", exchange -> respond(exchange, 503, new byte[0]));
+        server.start();
+
+        httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        upstreamGuard = new UpstreamGuard(
+                new AimdLimiter(2, 1, 2, 0.5),
+                new RetryBackoff(2, Duration.ofMillis(1), Duration.ofMillis(5)),
+                new CircuitBreaker(10, Duration.ofSeconds(30))
+        );
+        client = new NagerAsyncClient(
+                httpClient,
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                upstreamGuard,
+                new LoaderMetrics(new SimpleMeterRegistry(), upstreamGuard),
+                "http://127.0.0.1:" + server.getAddress().getPort(),
+                Duration.ofSeconds(2)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        httpClient.close();
+    }
+
+    @Test
+    @DisplayName("gzip으로 압축된 공휴일 응답을 풀어서 반환한다")
+    void getPublicHolidays_Gzip() {
+        // when
+        HolidayFetchResult result = client.getPublicHolidays(2025, "KR", null, null).join();
+
+        // then
+        assertThat(result.notModified()).isFalse();
+        assertThat(result.etag()).isEqualTo("\"kr-2025\"");
+        assertThat(result.holidays()).singleElement().satisfies(holiday -> {
+            assertThat(holiday.date()).isEqualTo(LocalDate.of(2025, 1, 1));
+            assertThat(holiday.localName()).isEqualTo("신정");
+        });
+    }
+
+    @Test
+    @DisplayName("304 응답은 변경 없음으로 반환한다")
+    void getPublicHolidays_NotModified() {
+        // when
+        HolidayFetchResult result = client.getPublicHolidays(2025, "JP", "\"v1\"", null).join();
+
+        // then
+        assertThat(result.notModified()).isTrue();
+        assertThat(result.etag()).isEqualTo("\"v1\"");
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 ServiceUnavailableException, 재시도를 소진한 5xx 응답은 InternalServerException으로 끝난다")
+    void getPublicHolidays_Errors() {
+        // then
+        assertThatThrownBy(() -> client.getPublicHolidays(2025, "ZZ", null, null).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+        assertThatThrownBy(() -> client.getPublicHolidays(2025, "US", null, null).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(InternalServerException.class);
+    }
+
+    @Test
+    @DisplayName("4xx 응답을 스트리밍으로 받으면 빈 연도로 끝내지 않고 실패로 끝난다")
+    void streamPublicHolidays_ClientError() {
+        // then
+        assertThatThrownBy(() -> client.streamPublicHolidays(2025, "ZZ", null, null,
+                (date, name, localName, fixed, global, typeMask) -> {
+                }).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("호스트당 동시 요청 한도를 넘는 요청도 모두 처리하고 허가를 반납한다")
+    void getPublicHolidays_OverHostLimit() {
+        // when
+        List<CompletableFuture<HolidayFetchResult>> futures = IntStream.range(0, 10)
+                .mapToObj(i -> client.getPublicHolidays(2025, "KR", null, null))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        assertThat(futures).allSatisfy(future -> assertThat(future.join().holidays()).hasSize(1));
+        assertThat(upstreamGuard.inFlight()).isZero();
+    }
+
+    private void gzippedHolidays(HttpExchange exchange) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(HOLIDAYS_JSON.getBytes(StandardCharsets.UTF_8));
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        exchange.getResponseHeaders().add("ETag", "\"kr-2025\"");
+        respond(exchange, 200, buffer.toByteArray());
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -8,6 +8,11 @@ import static org.mockito.Mockito.when;
 import com.holidaymini.exception.InternalServerException;
 import com.holidaymini.external.nager.dto.CountryResponse;
 import com.holidaymini.external.nager.dto.PublicHolidayResponse;
+import com.holidaymini.external.resilience.AimdLimiter;
+import com.holidaymini.external.resilience.CircuitBreaker;
+import com.holidaymini.external.resilience.RetryBackoff;
+import com.holidaymini.external.resilience.UpstreamGuard;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,7 +43,12 @@ class NagerDateClientTest {
 
     @BeforeEach
     void setUp() {
-        nagerDateClient = new NagerDateClient(restClient);
+        UpstreamGuard upstreamGuard = new UpstreamGuard(
+                new AimdLimiter(4, 1, 4, 0.5),
+                new RetryBackoff(1, Duration.ZERO, Duration.ZERO),
+                new CircuitBreaker(5, Duration.ofSeconds(30))
+        );
+        nagerDateClient = new NagerDateClient(restClient, upstreamGuard);
     }
 
     @Test
@@ -0,0 +1,66 @@
+package com.holidaymini.external.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaymini.external.resilience.AimdLimiter.Outcome;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AimdLimiter 테스트")
+class AimdLimiterTest {
+
+    @Test
+    @DisplayName("한도를 넘은 요청은 대기하다가 허가가 반납되면 이어서 실행된다")
+    void acquire_OverLimit() {
+        // given
+        AimdLimiter limiter = new AimdLimiter(2, 1, 2, 0.5);
+        limiter.acquire();
+        limiter.acquire();
+
+        // when
+        CompletableFuture<Void> waiting = limiter.acquire();
+
+        // then
+        assertThat(waiting).isNotDone();
+        limiter.release(Outcome.IGNORED);
+        assertThat(waiting).isDone();
+        assertThat(limiter.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공하면 한도가 서서히 늘고, 실패하면 배수로 줄어든다")
+    void release_AdjustsLimit() {
+        // given
+        AimdLimiter limiter = new AimdLimiter(4, 1, 16, 0.5);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire();
+            limiter.release(Outcome.SUCCESS);
+        }
+        int grown = limiter.limit();
+        limiter.acquire();
+        limiter.release(Outcome.DROPPED);
+
+        // then
+        assertThat(grown).isGreaterThan(4);
+        assertThat(limiter.limit()).isEqualTo(grown / 2);
+    }
+
+    @Test
+    @DisplayName("한도는 최솟값 아래로 내려가지 않는다")
+    void release_MinLimit() {
+        // given
+        AimdLimiter limiter = new AimdLimiter(4, 2, 16, 0.5);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+            limiter.release(Outcome.DROPPED);
+        }
+
+        // then
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+}
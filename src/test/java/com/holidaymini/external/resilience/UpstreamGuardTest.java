@@ -0,0 +1,126 @@
+package com.holidaymini.external.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.holidaymini.exception.BadRequestException;
+import com.holidaymini.exception.InternalServerException;
+import com.holidaymini.exception.ServiceUnavailableException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UpstreamGuard 테스트")
+class UpstreamGuardTest {
+
+    private UpstreamGuard upstreamGuard;
+
+    @BeforeEach
+    void setUp() {
+        upstreamGuard = new UpstreamGuard(
+                new AimdLimiter(4, 1, 8, 0.5),
+                new RetryBackoff(3, Duration.ofMillis(1), Duration.ofMillis(5)),
+                new CircuitBreaker(3, Duration.ofMinutes(1))
+        );
+    }
+
+    @Test
+    @DisplayName("일시 오류는 재시도해서 성공한다")
+    void call_RetryThenSuccess() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = upstreamGuard.call("조회", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new RetryableUpstreamException(429);
+            }
+            return "ok";
+        });
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts).hasValue(3);
+        assertThat(upstreamGuard.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도를 모두 소진하면 InternalServerException이 발생하고 한도가 줄어든다")
+    void call_Exhausted() {
+        // given
+        int before = upstreamGuard.currentLimit();
+
+        // when & then
+        assertThatThrownBy(() -> upstreamGuard.call("조회", () -> {
+            throw new RetryableUpstreamException(503);
+        })).isInstanceOf(InternalServerException.class);
+        assertThat(upstreamGuard.currentLimit()).isLessThan(before);
+    }
+
+    @Test
+    @DisplayName("재시도 대상이 아닌 예외는 그대로 전달한다")
+    void call_NonRetryable() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> upstreamGuard.call("조회", () -> {
+            attempts.incrementAndGet();
+            throw new BadRequestException("잘못된 요청");
+        })).isInstanceOf(BadRequestException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("연속 실패로 서킷이 열리면 호출하지 않고 ServiceUnavailableException이 발생한다")
+    void call_CircuitOpen() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        assertThatThrownBy(() -> upstreamGuard.call("조회", () -> {
+            attempts.incrementAndGet();
+            throw new RetryableUpstreamException(500);
+        })).isInstanceOf(InternalServerException.class);
+
+        // when & then
+        assertThat(upstreamGuard.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> upstreamGuard.call("조회", () -> {
+            attempts.incrementAndGet();
+            return "ok";
+        })).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("비동기 호출도 일시 오류를 재시도해서 성공한다")
+    void callAsync_RetryThenSuccess() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        CompletableFuture<String> result = upstreamGuard.callAsync("조회", () -> attempts.incrementAndGet() < 2
+                ? CompletableFuture.failedFuture(new RetryableUpstreamException(502))
+                : CompletableFuture.completedFuture("ok"));
+
+        // then
+        assertThat(result.join()).isEqualTo("ok");
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("비동기 호출이 재시도를 모두 소진하면 InternalServerException으로 끝난다")
+    void callAsync_Exhausted() {
+        // when
+        CompletableFuture<String> result = upstreamGuard.callAsync("조회",
+                () -> CompletableFuture.failedFuture(new RetryableUpstreamException(503)));
+
+        // then
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(InternalServerException.class);
+        assertThat(upstreamGuard.inFlight()).isZero();
+    }
+}
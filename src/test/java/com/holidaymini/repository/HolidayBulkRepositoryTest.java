@@ -0,0 +1,92 @@
+package com.holidaymini.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaymini.domain.Country;
+import com.holidaymini.domain.Holiday;
+import com.holidaymini.domain.HolidayDetail;
+import com.holidaymini.domain.HolidayType;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "data-loader.batch-size=2")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("HolidayBulkRepository 테스트")
+class HolidayBulkRepositoryTest {
+
+    @Autowired
+    private HolidayBulkRepository holidayBulkRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    private Country korea;
+
+    @BeforeEach
+    void setUp() {
+        holidayRepository.deleteAll();
+        countryRepository.deleteAll();
+
+        korea = countryRepository.saveAndFlush(new Country("KR", "Korea"));
+    }
+
+    @Test
+    @DisplayName("배치 크기를 넘는 공휴일도 타입과 함께 모두 저장된다")
+    void saveAll_OverBatchSize() {
+        // given
+        List<Holiday> holidays = List.of(
+                new Holiday(korea, LocalDate.of(2024, 1, 1), "New Year's Day",
+                        new HolidayDetail(true, true, "신정", EnumSet.of(HolidayType.PUBLIC))),
+                new Holiday(korea, LocalDate.of(2024, 3, 1), "Independence Movement Day",
+                        new HolidayDetail(true, true, "삼일절", EnumSet.of(HolidayType.PUBLIC, HolidayType.BANK))),
+                new Holiday(korea, LocalDate.of(2024, 5, 5), "Children's Day",
+                        new HolidayDetail(true, true, "어린이날", EnumSet.of(HolidayType.PUBLIC, HolidayType.SCHOOL)))
+        );
+
+        // when
+        int saved = holidayBulkRepository.saveAll(holidays);
+
+        // then
+        List<Holiday> actual = holidayRepository.findByCountryAndYear(korea, 2024);
+        assertThat(saved).isEqualTo(3);
+        assertThat(actual).hasSize(3);
+        assertThat(actual).extracting(Holiday::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(actual)
+                .filteredOn(holiday -> holiday.getName().equals("Independence Movement Day"))
+                .singleElement()
+                .satisfies(holiday -> assertThat(holiday.getDetail().getTypes())
+                        .containsExactlyInAnyOrder(HolidayType.PUBLIC, HolidayType.BANK));
+    }
+
+    @Test
+    @DisplayName("id 목록으로 공휴일과 타입을 일괄 삭제한다")
+    void deleteAllByIds() {
+        // given
+        holidayBulkRepository.saveAll(List.of(
+                new Holiday(korea, LocalDate.of(2024, 1, 1), "New Year's Day",
+                        new HolidayDetail(true, true, "신정", EnumSet.of(HolidayType.PUBLIC)))
+        ));
+        List<Long> ids = holidayRepository.findByCountryAndYear(korea, 2024)
+                .stream()
+                .map(Holiday::getId)
+                .toList();
+
+        // when
+        holidayBulkRepository.deleteAllByIds(ids);
+
+        // then
+        assertThat(holidayRepository.findByCountryAndYear(korea, 2024)).isEmpty();
+    }
+}
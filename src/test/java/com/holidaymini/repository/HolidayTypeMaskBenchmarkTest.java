@@ -0,0 +1,194 @@
+package com.holidaymini.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaymini.domain.HolidayType;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 유형을 holiday_types 행으로 저장하던 방식(이전)과 type_mask 컬럼(이후)의 적재, 유형 검색 시간을 비교한다.
+ * 두 방식 모두 같은 데이터베이스에 엔티티가 만들던 것과 같은 컬럼, 인덱스의 별도 테이블을 만들고 같은 방식(JDBC 배치)으로 적재한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("유형 비트마스크 벤치마크")
+class HolidayTypeMaskBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(HolidayTypeMaskBenchmarkTest.class);
+
+    private static final int COUNTRIES = 100;
+    private static final int HOLIDAYS_PER_COUNTRY = 30;
+    private static final int SEARCHES = 500;
+    private static final int YEAR = 2024;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> countryCodes = IntStream.range(0, COUNTRIES)
+            .mapToObj(i -> String.format("C%02d", i))
+            .toList();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+                CREATE TABLE bench_mask_holiday (
+                    holiday_id BIGINT PRIMARY KEY, country_id VARCHAR(2), holiday_year INT, holiday_date DATE,
+                    name VARCHAR(255), local_name VARCHAR(255), is_fixed BOOLEAN, is_global BOOLEAN, type_mask INT
+                )""");
+        jdbcTemplate.execute("CREATE INDEX idx_bench_mask_country_year ON bench_mask_holiday (country_id, holiday_year)");
+        jdbcTemplate.execute(
+                "CREATE INDEX idx_bench_mask_country_year_type ON bench_mask_holiday (country_id, holiday_year, type_mask)"
+        );
+
+        jdbcTemplate.execute("""
+                CREATE TABLE bench_legacy_holiday (
+                    holiday_id BIGINT PRIMARY KEY, country_id VARCHAR(2), holiday_year INT, holiday_date DATE,
+                    name VARCHAR(255), local_name VARCHAR(255), is_fixed BOOLEAN, is_global BOOLEAN
+                )""");
+        jdbcTemplate.execute(
+                "CREATE INDEX idx_bench_legacy_country_year ON bench_legacy_holiday (country_id, holiday_year)"
+        );
+        // @ElementCollection 테이블은 외래 키로 holiday_id에 인덱스가 생긴다
+        jdbcTemplate.execute("""
+                CREATE TABLE bench_legacy_holiday_types (
+                    holiday_id BIGINT REFERENCES bench_legacy_holiday (holiday_id), types VARCHAR(20)
+                )""");
+        jdbcTemplate.execute(
+                "CREATE INDEX idx_bench_legacy_types_holiday ON bench_legacy_holiday_types (holiday_id)"
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_legacy_holiday_types");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_legacy_holiday");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_mask_holiday");
+    }
+
+    @Test
+    @DisplayName("holiday_types 조인 대비 type_mask 컬럼의 적재와 유형 검색 시간을 비교한다")
+    void compareCollectionTableWithTypeMask() {
+        List<Holiday> holidays = holidays();
+
+        // warm-up: 한 번씩 적재하고 검색한 뒤 비우고 다시 잰다
+        ingestAfter(holidays);
+        ingestBefore(holidays);
+        searchAfter();
+        searchBefore();
+        clear();
+
+        long afterIngest = time(() -> ingestAfter(holidays));
+        long beforeIngest = time(() -> ingestBefore(holidays));
+        long afterSearch = time(this::searchAfter);
+        long beforeSearch = time(this::searchBefore);
+
+        log.info("[BENCHMARK] ingest {} holidays - holiday + holiday_types: {} ms, type_mask: {} ms",
+                holidays.size(), beforeIngest, afterIngest);
+        log.info("[BENCHMARK] {} type searches - holiday_types join: {} ms, type_mask IN: {} ms",
+                SEARCHES, beforeSearch, afterSearch);
+    }
+
+    private List<Holiday> holidays() {
+        List<Holiday> holidays = new ArrayList<>(COUNTRIES * HOLIDAYS_PER_COUNTRY);
+        long id = 1;
+        for (String countryCode : countryCodes) {
+            for (int i = 0; i < HOLIDAYS_PER_COUNTRY; i++) {
+                int typeMask = HolidayType.PUBLIC.mask() | (i % 3 == 0 ? HolidayType.BANK.mask() : 0)
+                        | (i % 5 == 0 ? HolidayType.SCHOOL.mask() : 0);
+                holidays.add(new Holiday(id++, countryCode, LocalDate.of(YEAR, 1, 1).plusDays(i * 11L),
+                        "Holiday " + i, "공휴일 " + i, typeMask));
+            }
+        }
+        return holidays;
+    }
+
+    private void ingestAfter(List<Holiday> holidays) {
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO bench_mask_holiday
+                        (holiday_id, country_id, holiday_year, holiday_date, name, local_name, is_fixed, is_global, type_mask)
+                        VALUES (?, ?, ?, ?, ?, ?, TRUE, TRUE, ?)""",
+                holidays.stream()
+                        .map(holiday -> new Object[]{holiday.id(), holiday.countryCode(), YEAR,
+                                Date.valueOf(holiday.date()), holiday.name(), holiday.localName(), holiday.typeMask()})
+                        .toList());
+    }
+
+    // 이전 방식은 공휴일 행과 유형 행을 함께 적재했다
+    private void ingestBefore(List<Holiday> holidays) {
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO bench_legacy_holiday
+                        (holiday_id, country_id, holiday_year, holiday_date, name, local_name, is_fixed, is_global)
+                        VALUES (?, ?, ?, ?, ?, ?, TRUE, TRUE)""",
+                holidays.stream()
+                        .map(holiday -> new Object[]{holiday.id(), holiday.countryCode(), YEAR,
+                                Date.valueOf(holiday.date()), holiday.name(), holiday.localName()})
+                        .toList());
+
+        List<Object[]> typeRows = new ArrayList<>();
+        for (Holiday holiday : holidays) {
+            for (HolidayType type : HolidayType.fromMask(holiday.typeMask())) {
+                typeRows.add(new Object[]{holiday.id(), type.name()});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO bench_legacy_holiday_types (holiday_id, types) VALUES (?, ?)", typeRows);
+    }
+
+    private void searchAfter() {
+        List<Integer> masks = HolidayType.masksContaining(HolidayType.BANK);
+        String placeholders = String.join(", ", Collections.nCopies(masks.size(), "?"));
+        String sql = "SELECT COUNT(*) FROM bench_mask_holiday WHERE country_id = ? AND holiday_year = ?"
+                + " AND type_mask IN (" + placeholders + ")";
+
+        for (int i = 0; i < SEARCHES; i++) {
+            List<Object> args = new ArrayList<>(masks.size() + 2);
+            args.add(countryCodes.get(i % COUNTRIES));
+            args.add(YEAR);
+            args.addAll(masks);
+            assertThat(jdbcTemplate.queryForObject(sql, Long.class, args.toArray())).isEqualTo(10);
+        }
+    }
+
+    private void searchBefore() {
+        for (int i = 0; i < SEARCHES; i++) {
+            Long count = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM bench_legacy_holiday h
+                    JOIN bench_legacy_holiday_types t ON t.holiday_id = h.holiday_id
+                    WHERE h.country_id = ? AND h.holiday_year = ? AND t.types = ?
+                    """, Long.class, countryCodes.get(i % COUNTRIES), YEAR, HolidayType.BANK.name());
+            assertThat(count).isEqualTo(10);
+        }
+    }
+
+    private void clear() {
+        jdbcTemplate.execute("DELETE FROM bench_legacy_holiday_types");
+        jdbcTemplate.execute("DELETE FROM bench_legacy_holiday");
+        jdbcTemplate.execute("DELETE FROM bench_mask_holiday");
+    }
+
+    private static long time(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private record Holiday(long id, String countryCode, LocalDate date, String name, String localName, int typeMask) {
+
+    }
+}
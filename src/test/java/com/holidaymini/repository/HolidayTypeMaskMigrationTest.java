@@ -0,0 +1,53 @@
+package com.holidaymini.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaymini.domain.HolidayType;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+@DisplayName("holiday_types -> type_mask 마이그레이션 테스트")
+class HolidayTypeMaskMigrationTest {
+
+    @Test
+    @DisplayName("기존 유형 행을 비트마스크로 옮기고 컬렉션 테이블을 제거한다")
+    void migrate() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:type-mask-migration", "sa", "");
+             Statement statement = connection.createStatement()) {
+            // given
+            statement.execute("CREATE TABLE holiday (holiday_id BIGINT PRIMARY KEY, country_id VARCHAR(2), holiday_year INT)");
+            statement.execute("CREATE TABLE holiday_types (holiday_id BIGINT, types VARCHAR(20))");
+            statement.execute("INSERT INTO holiday VALUES (1, 'KR', 2024), (2, 'KR', 2024), (3, 'KR', 2024)");
+            statement.execute("INSERT INTO holiday_types VALUES (1, 'PUBLIC'), (2, 'PUBLIC'), (2, 'SCHOOL'), (2, 'OBSERVANCE')");
+
+            // when
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/holiday_type_mask.sql"));
+
+            // then
+            Map<Long, Integer> masks = new HashMap<>();
+            try (ResultSet rs = statement.executeQuery("SELECT holiday_id, type_mask FROM holiday")) {
+                while (rs.next()) {
+                    masks.put(rs.getLong(1), rs.getInt(2));
+                }
+            }
+            assertThat(masks).containsEntry(1L, HolidayType.PUBLIC.mask())
+                    .containsEntry(2L, HolidayType.toMask(
+                            EnumSet.of(HolidayType.PUBLIC, HolidayType.SCHOOL, HolidayType.OBSERVANCE)))
+                    .containsEntry(3L, 0);
+
+            try (ResultSet rs = connection.getMetaData().getTables(null, null, "HOLIDAY_TYPES", null)) {
+                assertThat(rs.next()).isFalse();
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.holidaymini.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaymini.domain.Country;
+import com.holidaymini.domain.Holiday;
+import com.holidaymini.domain.HolidayDetail;
+import com.holidaymini.domain.HolidaySyncState;
+import com.holidaymini.domain.HolidayType;
+import com.holidaymini.repository.CountryRepository;
+import com.holidaymini.repository.HolidayBulkRepository;
+import com.holidaymini.repository.HolidayRepository;
+import com.holidaymini.repository.HolidaySyncStateRepository;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "business-day.weekends.IL=FRIDAY,SATURDAY")
+@ActiveProfiles("test")
+@DisplayName("BusinessDayCalendar 테스트")
+class BusinessDayCalendarTest {
+
+    @Autowired
+    private BusinessDayCalendar businessDayCalendar;
+
+    @Autowired
+    private HolidayMerger holidayMerger;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private HolidayBulkRepository holidayBulkRepository;
+
+    @Autowired
+    private HolidaySyncStateRepository syncStateRepository;
+
+    private Country korea;
+    private Country israel;
+
+    @BeforeEach
+    void setUp() {
+        holidayRepository.deleteAll();
+        countryRepository.deleteAll();
+        syncStateRepository.deleteAll();
+
+        korea = countryRepository.save(new Country("KR", "Korea"));
+        israel = countryRepository.save(new Country("IL", "Israel"));
+        // 2025-01-01은 수요일, 2025-01-03은 금요일이다
+        holidayBulkRepository.saveAll(List.of(
+                holiday(LocalDate.of(2025, 1, 1), "New Year's Day", EnumSet.of(HolidayType.PUBLIC)),
+                holiday(LocalDate.of(2025, 1, 3), "Company Day", EnumSet.of(HolidayType.OBSERVANCE))
+        ));
+        businessDayCalendar.clear();
+    }
+
+    @Test
+    @DisplayName("주말과 공휴일은 영업일이 아니고, PUBLIC/BANK만 보면 그 외 공휴일은 영업일이다")
+    void isBusinessDay() {
+        // then
+        assertThat(businessDayCalendar.isBusinessDay(korea, LocalDate.of(2025, 1, 1), false)).isFalse();
+        assertThat(businessDayCalendar.isBusinessDay(korea, LocalDate.of(2025, 1, 2), false)).isTrue();
+        assertThat(businessDayCalendar.isBusinessDay(korea, LocalDate.of(2025, 1, 3), false)).isFalse();
+        assertThat(businessDayCalendar.isBusinessDay(korea, LocalDate.of(2025, 1, 3), true)).isTrue();
+        assertThat(businessDayCalendar.isBusinessDay(korea, LocalDate.of(2025, 1, 4), true)).isFalse();
+    }
+
+    @Test
+    @DisplayName("국가별로 설정한 주말 요일을 따른다")
+    void isBusinessDay_CountryWeekend() {
+        // then
+        assertThat(businessDayCalendar.isBusinessDay(israel, LocalDate.of(2025, 1, 3), false)).isFalse();
+        assertThat(businessDayCalendar.isBusinessDay(israel, LocalDate.of(2025, 1, 5), false)).isTrue();
+    }
+
+    @Test
+    @DisplayName("구간의 영업일 수는 양 끝 날짜를 포함하고 연도 경계를 넘어도 합산한다")
+    void countBusinessDays() {
+        // when
+        int all = businessDayCalendar.countBusinessDays(korea, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 10), false);
+        int official = businessDayCalendar.countBusinessDays(korea, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 10), true);
+        int acrossYears = businessDayCalendar.countBusinessDays(korea, LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 2), false);
+
+        // then
+        assertThat(all).isEqualTo(6);
+        assertThat(official).isEqualTo(7);
+        assertThat(acrossYears).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("영업일을 더하고 빼면 쉬는 날과 연도 경계를 건너뛴다")
+    void addBusinessDays() {
+        // then
+        assertThat(businessDayCalendar.addBusinessDays(korea, LocalDate.of(2025, 1, 2), 1, false))
+                .contains(LocalDate.of(2025, 1, 6));
+        assertThat(businessDayCalendar.addBusinessDays(korea, LocalDate.of(2025, 1, 2), 1, true))
+                .contains(LocalDate.of(2025, 1, 3));
+        assertThat(businessDayCalendar.addBusinessDays(korea, LocalDate.of(2025, 1, 6), -2, false))
+                .contains(LocalDate.of(2024, 12, 31));
+        assertThat(businessDayCalendar.addBusinessDays(korea, LocalDate.of(2024, 12, 31), 1, false))
+                .contains(LocalDate.of(2025, 1, 2));
+    }
+
+    @Test
+    @DisplayName("결과가 적재 범위를 벗어나면 비어 있는 값을 반환한다")
+    void addBusinessDays_OutOfRange() {
+        // then
+        assertThat(businessDayCalendar.addBusinessDays(korea, LocalDate.of(2025, 12, 31), 1, false)).isEmpty();
+        assertThat(businessDayCalendar.addBusinessDays(korea, LocalDate.of(2020, 1, 1), -1, false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("병합이 커밋되면 해당 국가-연도 달력을 다시 만든다")
+    void rebuildOnMerge() {
+        // given
+        businessDayCalendar.isBusinessDay(korea, LocalDate.of(2025, 1, 3), false);
+        List<Holiday> incoming = List.of(
+                holiday(LocalDate.of(2025, 1, 1), "New Year's Day", EnumSet.of(HolidayType.PUBLIC))
+        );
+
+        // when
+        holidayMerger.merge(korea, 2025, incoming, new HolidaySyncState("KR", 2025, "fingerprint", null, null));
+
+        // then
+        assertThat(businessDayCalendar.isBusinessDay(korea, LocalDate.of(2025, 1, 3), false)).isTrue();
+    }
+
+    private Holiday holiday(LocalDate date, String name, EnumSet<HolidayType> types) {
+        return new Holiday(korea, date, name, new HolidayDetail(true, true, name, types));
+    }
+}
@@ -0,0 +1,64 @@
+package com.holidaymini.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaymini.domain.Country;
+import com.holidaymini.repository.CountryRepository;
+import com.holidaymini.repository.HolidayRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("CountryRegistry 테스트")
+class CountryRegistryTest {
+
+    @Autowired
+    private CountryRegistry countryRegistry;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        holidayRepository.deleteAll();
+        countryRepository.deleteAll();
+        countryRepository.save(new Country("KR", "Korea"));
+        countryRegistry.refresh();
+    }
+
+    @Test
+    @DisplayName("등록된 국가만 찾고 없는 코드는 빈 값을 반환한다")
+    void find() {
+        // then
+        assertThat(countryRegistry.find("KR")).map(Country::getName).hasValue("Korea");
+        assertThat(countryRegistry.find("ZZ")).isEmpty();
+        assertThat(countryRegistry.find(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("국가 적재 이벤트를 받으면 새 국가 목록으로 교체한다")
+    void refreshOnCountriesLoaded() {
+        // given
+        countryRepository.save(new Country("US", "United States"));
+        assertThat(countryRegistry.find("US")).isEmpty();
+
+        // when
+        eventPublisher.publishEvent(new CountriesLoadedEvent(2));
+
+        // then
+        assertThat(countryRegistry.find("US")).isPresent();
+        assertThat(countryRegistry.size()).isEqualTo(2);
+    }
+}
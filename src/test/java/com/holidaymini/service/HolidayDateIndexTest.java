@@ -0,0 +1,106 @@
+package com.holidaymini.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaymini.domain.Country;
+import com.holidaymini.domain.Holiday;
+import com.holidaymini.domain.HolidayDetail;
+import com.holidaymini.domain.HolidaySyncState;
+import com.holidaymini.domain.HolidayType;
+import com.holidaymini.repository.CountryRepository;
+import com.holidaymini.repository.HolidayBulkRepository;
+import com.holidaymini.repository.HolidayRepository;
+import com.holidaymini.repository.HolidaySyncStateRepository;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("HolidayDateIndex 테스트")
+class HolidayDateIndexTest {
+
+    @Autowired
+    private HolidayDateIndex holidayDateIndex;
+
+    @Autowired
+    private HolidayMerger holidayMerger;
+
+    @Autowired
+    private HolidayService holidayService;
+
+    @Autowired
+    private CountryRegistry countryRegistry;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private HolidayBulkRepository holidayBulkRepository;
+
+    @Autowired
+    private HolidaySyncStateRepository syncStateRepository;
+
+    private Country korea;
+
+    @BeforeEach
+    void setUp() {
+        holidayRepository.deleteAll();
+        countryRepository.deleteAll();
+        syncStateRepository.deleteAll();
+
+        korea = countryRepository.save(new Country("KR", "Korea"));
+        holidayBulkRepository.saveAll(List.of(
+                holiday(LocalDate.of(2020, 1, 1), "New Year's Day"),
+                holiday(LocalDate.of(2024, 12, 31), "New Year's Eve"),
+                holiday(LocalDate.of(2025, 3, 1), "Independence Movement Day")
+        ));
+        countryRegistry.refresh();
+        holidayDateIndex.clear();
+    }
+
+    @Test
+    @DisplayName("연도의 첫날, 마지막 날(윤년 366번째 날)을 포함해 공휴일 여부를 답한다")
+    void isHoliday() {
+        // when
+        holidayDateIndex.loadMissing(List.of("KR"));
+
+        // then
+        assertThat(holidayDateIndex.isHoliday("KR", LocalDate.of(2020, 1, 1))).isTrue();
+        assertThat(holidayDateIndex.isHoliday("KR", LocalDate.of(2020, 1, 2))).isFalse();
+        assertThat(holidayDateIndex.isHoliday("KR", LocalDate.of(2024, 12, 31))).isTrue();
+        assertThat(holidayDateIndex.isHoliday("KR", LocalDate.of(2025, 3, 1))).isTrue();
+        assertThat(holidayDateIndex.isHoliday("KR", LocalDate.of(2023, 3, 1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("병합이나 삭제가 커밋되면 해당 연도만 다시 읽어 교체한다")
+    void rebuildOnChange() {
+        // given
+        holidayDateIndex.loadMissing(List.of("KR"));
+        List<Holiday> incoming = List.of(holiday(LocalDate.of(2025, 5, 5), "Children's Day"));
+
+        // when
+        holidayMerger.merge(korea, 2025, incoming, new HolidaySyncState("KR", 2025, "fingerprint", null, null));
+        holidayService.deleteByCountryCodeAndYear("KR", 2024);
+
+        // then
+        assertThat(holidayDateIndex.isHoliday("KR", LocalDate.of(2025, 3, 1))).isFalse();
+        assertThat(holidayDateIndex.isHoliday("KR", LocalDate.of(2025, 5, 5))).isTrue();
+        assertThat(holidayDateIndex.isHoliday("KR", LocalDate.of(2024, 12, 31))).isFalse();
+        assertThat(holidayDateIndex.isHoliday("KR", LocalDate.of(2020, 1, 1))).isTrue();
+    }
+
+    private Holiday holiday(LocalDate date, String name) {
+        return new Holiday(korea, date, name, new HolidayDetail(true, true, name, EnumSet.of(HolidayType.PUBLIC)));
+    }
+}
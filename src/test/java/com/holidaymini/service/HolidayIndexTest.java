@@ -0,0 +1,193 @@
+package com.holidaymini.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaymini.controller.dto.HolidayResponse;
+import com.holidaymini.domain.Country;
+import com.holidaymini.domain.Holiday;
+import com.holidaymini.domain.HolidayDetail;
+import com.holidaymini.domain.HolidaySyncState;
+import com.holidaymini.domain.HolidayType;
+import com.holidaymini.repository.CountryRepository;
+import com.holidaymini.repository.HolidayBulkRepository;
+import com.holidaymini.repository.HolidayRepository;
+import com.holidaymini.repository.HolidaySyncStateRepository;
+import com.holidaymini.repository.dto.HolidaySearchCondition;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("HolidayIndex 테스트")
+class HolidayIndexTest {
+
+    @Autowired
+    private HolidayIndex holidayIndex;
+
+    @Autowired
+    private HolidayMerger holidayMerger;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private HolidayBulkRepository holidayBulkRepository;
+
+    @Autowired
+    private HolidaySyncStateRepository syncStateRepository;
+
+    private Country korea;
+
+    @BeforeEach
+    void setUp() {
+        holidayRepository.deleteAll();
+        countryRepository.deleteAll();
+        syncStateRepository.deleteAll();
+
+        korea = countryRepository.save(new Country("KR", "Korea"));
+        holidayBulkRepository.saveAll(List.of(
+                holiday(LocalDate.of(2024, 5, 5), "Children's Day", EnumSet.of(HolidayType.PUBLIC, HolidayType.SCHOOL)),
+                holiday(LocalDate.of(2024, 1, 1), "New Year's Day", EnumSet.of(HolidayType.PUBLIC)),
+                holiday(LocalDate.of(2024, 3, 1), "Independence Movement Day", EnumSet.of(HolidayType.PUBLIC)),
+                holiday(LocalDate.of(2024, 5, 15), "Teachers' Day", EnumSet.of(HolidayType.SCHOOL)),
+                holiday(LocalDate.of(2024, 12, 25), "Christmas Day", EnumSet.of(HolidayType.PUBLIC, HolidayType.BANK))
+        ));
+        holidayIndex.clear();
+    }
+
+    @Test
+    @DisplayName("시작일과 종료일을 모두 포함해 날짜순으로 조회한다")
+    void search_DateRange() {
+        // given
+        HolidaySearchCondition condition = condition(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 5, 15), null);
+
+        // when
+        Page<HolidayResponse> result = holidayIndex.search(condition, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).extracting(HolidayResponse::name)
+                .containsExactly("Independence Movement Day", "Children's Day", "Teachers' Day");
+        assertThat(result.getContent().get(1)).satisfies(holiday -> {
+            assertThat(holiday.countryName()).isEqualTo("Korea");
+            assertThat(holiday.year()).isEqualTo(2024);
+            assertThat(holiday.types()).containsExactlyInAnyOrder(HolidayType.PUBLIC, HolidayType.SCHOOL);
+        });
+    }
+
+    @Test
+    @DisplayName("타입 필터를 적용한 뒤 페이지를 나눈다")
+    void search_TypeWithPaging() {
+        // given
+        HolidaySearchCondition condition = condition(null, null, HolidayType.PUBLIC);
+
+        // when
+        Page<HolidayResponse> result = holidayIndex.search(condition, PageRequest.of(1, 2));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(4);
+        assertThat(result.getTotalPages()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(HolidayResponse::name)
+                .containsExactly("Children's Day", "Christmas Day");
+    }
+
+    @Test
+    @DisplayName("범위에 해당하는 공휴일이 없으면 빈 페이지를 반환한다")
+    void search_EmptyRange() {
+        // given
+        HolidaySearchCondition condition = condition(LocalDate.of(2024, 6, 1), LocalDate.of(2024, 11, 30), null);
+
+        // when
+        Page<HolidayResponse> result = holidayIndex.search(condition, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getTotalElements()).isZero();
+        assertThat(result.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 건너뛰거나 겹치는 항목 없이 끝까지 조회한다")
+    void scroll_FollowsCursor() {
+        // given
+        HolidaySearchCondition condition = condition(null, null, HolidayType.PUBLIC);
+
+        // when
+        HolidayScroll first = holidayIndex.scroll(condition, null, 2);
+        HolidayScroll second = holidayIndex.scroll(condition, HolidayCursor.decode(first.next().encode()), 2);
+
+        // then
+        assertThat(first.content()).extracting(HolidayResponse::name)
+                .containsExactly("New Year's Day", "Independence Movement Day");
+        assertThat(second.content()).extracting(HolidayResponse::name)
+                .containsExactly("Children's Day", "Christmas Day");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("마지막 항목으로 끝나는 페이지는 다음 커서를 주지 않는다")
+    void scroll_ExactLastPage() {
+        // when
+        HolidayScroll scroll = holidayIndex.scroll(condition(LocalDate.of(2024, 12, 1), null, null), null, 1);
+
+        // then
+        assertThat(scroll.content()).extracting(HolidayResponse::name).containsExactly("Christmas Day");
+        assertThat(scroll.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("병합이 커밋되면 해당 국가-연도를 다시 읽어 교체한다")
+    void rebuildOnMerge() {
+        // given
+        holidayIndex.search(condition(null, null, null), PageRequest.of(0, 10));
+        List<Holiday> incoming = List.of(
+                holiday(LocalDate.of(2024, 1, 1), "New Year's Day", EnumSet.of(HolidayType.PUBLIC)),
+                holiday(LocalDate.of(2024, 8, 15), "Liberation Day", EnumSet.of(HolidayType.PUBLIC))
+        );
+
+        // when
+        holidayMerger.merge(korea, 2024, incoming, new HolidaySyncState("KR", 2024, "fingerprint", null, null));
+
+        // then
+        Page<HolidayResponse> result = holidayIndex.search(condition(null, null, null), PageRequest.of(0, 10));
+        assertThat(result.getContent()).extracting(HolidayResponse::name)
+                .containsExactly("New Year's Day", "Liberation Day");
+    }
+
+    @Test
+    @DisplayName("전체 재구성 후에도 같은 결과를 반환한다")
+    void rebuildAll() {
+        // when
+        holidayIndex.rebuildAll();
+
+        // then
+        Page<HolidayResponse> result = holidayIndex.search(condition(null, null, HolidayType.SCHOOL), PageRequest.of(0, 10));
+        assertThat(result.getContent()).extracting(HolidayResponse::name)
+                .containsExactly("Children's Day", "Teachers' Day");
+    }
+
+    private HolidaySearchCondition condition(LocalDate startDate, LocalDate endDate, HolidayType type) {
+        return HolidaySearchCondition.builder()
+                .country(korea)
+                .year(2024)
+                .startDate(startDate)
+                .endDate(endDate)
+                .type(type)
+                .build();
+    }
+
+    private Holiday holiday(LocalDate date, String name, EnumSet<HolidayType> types) {
+        return new Holiday(korea, date, name, new HolidayDetail(true, true, name, types));
+    }
+}
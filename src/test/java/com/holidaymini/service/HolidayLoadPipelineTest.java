@@ -0,0 +1,141 @@
+package com.holidaymini.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.holidaymini.domain.Country;
+import com.holidaymini.domain.HolidaySyncState;
+import com.holidaymini.domain.HolidayType;
+import com.holidaymini.exception.InternalServerException;
+import com.holidaymini.external.resilience.AimdLimiter;
+import com.holidaymini.external.resilience.CircuitBreaker;
+import com.holidaymini.external.resilience.RetryBackoff;
+import com.holidaymini.external.resilience.UpstreamGuard;
+import com.holidaymini.metrics.LoaderMetrics;
+import com.holidaymini.repository.dto.HolidayRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidayLoadPipeline 테스트")
+class HolidayLoadPipelineTest {
+
+    @Mock
+    private NagerDataLoadService dataLoadService;
+
+    private ExecutorService executor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private HolidayLoadPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        meterRegistry = new SimpleMeterRegistry();
+        UpstreamGuard upstreamGuard = new UpstreamGuard(
+                new AimdLimiter(4, 1, 4, 0.5),
+                new RetryBackoff(1, Duration.ZERO, Duration.ZERO),
+                new CircuitBreaker(5, Duration.ofSeconds(30))
+        );
+        pipeline = new HolidayLoadPipeline(dataLoadService, executor, new LoaderMetrics(meterRegistry, upstreamGuard));
+        ReflectionTestUtils.setField(pipeline, "maxConcurrentFetches", 4);
+        ReflectionTestUtils.setField(pipeline, "queueCapacity", 2);
+        ReflectionTestUtils.setField(pipeline, "writerCount", 2);
+        ReflectionTestUtils.setField(pipeline, "batchSize", 3);
+        ReflectionTestUtils.setField(pipeline, "offerTimeout", Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("연도 경계 없이 모든 국가-연도를 적재하고 실패 건수를 집계한다")
+    void run_AllCountryYears() {
+        // given
+        Country korea = new Country("KR", "Korea");
+        Country japan = new Country("JP", "Japan");
+        Country usa = new Country("US", "United States");
+
+        when(dataLoadService.loadHolidaysAsync(any(Country.class), anyInt()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(loaded(invocation.getArgument(0),
+                        invocation.getArgument(1))));
+        when(dataLoadService.loadHolidaysAsync(eq(usa), eq(2021)))
+                .thenReturn(CompletableFuture.failedFuture(new InternalServerException("외부 API 서버 오류가 발생했습니다")));
+        when(dataLoadService.saveBatch(anyList(), anyList()))
+                .thenAnswer(invocation -> invocation.<List<HolidayRow>>getArgument(0).size());
+
+        // when
+        HolidayLoadResult result = pipeline.run(Set.of(korea, japan, usa), 2020, 2021);
+
+        // then
+        assertThat(result.succeeded()).isEqualTo(5);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.rowsWritten()).isEqualTo(5);
+        assertThat(meterRegistry.get("holiday.loader.rows.written").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("holiday.loader.failures").tag("country", "US").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("holiday.loader.stage").tag("stage", "fetch").timer().count()).isEqualTo(6);
+        assertThat(meterRegistry.get("holiday.loader.tasks.active").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장 스레드가 모두 멈추면 남은 조회 결과를 기다리지 않고 실패로 끝낸다")
+    void run_WriterFailure() {
+        // given
+        ReflectionTestUtils.setField(pipeline, "writerCount", 1);
+        Set<Country> countries = Set.of(
+                new Country("KR", "Korea"),
+                new Country("JP", "Japan"),
+                new Country("US", "United States")
+        );
+        // 저장 단계가 flush 밖에서 실패하도록 행 목록이 없는 결과를 넘긴다
+        when(dataLoadService.loadHolidaysAsync(any(Country.class), anyInt()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(new LoadedHolidays(null, null)));
+
+        // when & then
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                assertThatThrownBy(() -> pipeline.run(countries, 2020, 2023))
+                        .isInstanceOf(CompletionException.class)
+                        .hasCauseInstanceOf(NullPointerException.class));
+    }
+
+    private LoadedHolidays loaded(Country country, int year) {
+        HolidayRow row = new HolidayRow(
+                0L,
+                country.getCountryCode(),
+                LocalDate.of(year, 1, 1),
+                "New Year's Day",
+                "New Year's Day",
+                true,
+                true,
+                HolidayType.PUBLIC.mask()
+        );
+        return new LoadedHolidays(
+                List.of(row),
+                new HolidaySyncState(country.getCountryCode(), year, "fingerprint", null, null)
+        );
+    }
+}
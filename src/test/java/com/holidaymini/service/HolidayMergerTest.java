@@ -0,0 +1,139 @@
+package com.holidaymini.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaymini.domain.Country;
+import com.holidaymini.domain.Holiday;
+import com.holidaymini.domain.HolidayDetail;
+import com.holidaymini.domain.HolidaySyncState;
+import com.holidaymini.domain.HolidayType;
+import com.holidaymini.repository.CountryRepository;
+import com.holidaymini.repository.HolidayBulkRepository;
+import com.holidaymini.repository.HolidayRepository;
+import com.holidaymini.repository.HolidaySyncStateRepository;
+import com.holidaymini.repository.dto.HolidayRow;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("HolidayMerger 테스트")
+class HolidayMergerTest {
+
+    @Autowired
+    private HolidayMerger holidayMerger;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private HolidayBulkRepository holidayBulkRepository;
+
+    @Autowired
+    private HolidaySyncStateRepository syncStateRepository;
+
+    private Country korea;
+
+    @BeforeEach
+    void setUp() {
+        holidayRepository.deleteAll();
+        countryRepository.deleteAll();
+        syncStateRepository.deleteAll();
+
+        korea = countryRepository.save(new Country("KR", "Korea"));
+        holidayBulkRepository.saveAll(List.of(
+                holiday(LocalDate.of(2024, 1, 1), "New Year's Day", "신정", EnumSet.of(HolidayType.PUBLIC)),
+                holiday(LocalDate.of(2024, 3, 1), "Independence Movement Day", "삼일절", EnumSet.of(HolidayType.PUBLIC)),
+                holiday(LocalDate.of(2024, 4, 10), "Election Day", "선거일", EnumSet.of(HolidayType.PUBLIC))
+        ));
+    }
+
+    @Test
+    @DisplayName("자연키로 비교해 필요한 추가, 수정, 삭제만 반영하고 변경 없는 행의 id는 유지한다")
+    void merge() {
+        // given
+        Map<String, Long> idsBefore = rowsByName().entrySet()
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().id()));
+        List<Holiday> incoming = List.of(
+                holiday(LocalDate.of(2024, 1, 1), "New Year's Day", "신정", EnumSet.of(HolidayType.PUBLIC)),
+                holiday(LocalDate.of(2024, 3, 1), "Independence Movement Day", "3·1절",
+                        EnumSet.of(HolidayType.PUBLIC, HolidayType.BANK)),
+                holiday(LocalDate.of(2024, 5, 5), "Children's Day", "어린이날", EnumSet.of(HolidayType.PUBLIC))
+        );
+        HolidaySyncState syncState = new HolidaySyncState("KR", 2024, "fingerprint", null, null);
+
+        // when
+        HolidayMergeResult result = holidayMerger.merge(korea, 2024, incoming, syncState);
+
+        // then
+        assertThat(result).isEqualTo(new HolidayMergeResult(1, 1, 1));
+
+        Map<String, HolidayRow> rows = rowsByName();
+        assertThat(rows).containsOnlyKeys("New Year's Day", "Independence Movement Day", "Children's Day");
+        assertThat(rows.get("New Year's Day").id()).isEqualTo(idsBefore.get("New Year's Day"));
+        assertThat(rows.get("Independence Movement Day")).satisfies(row -> {
+            assertThat(row.id()).isEqualTo(idsBefore.get("Independence Movement Day"));
+            assertThat(row.localName()).isEqualTo("3·1절");
+            assertThat(HolidayType.fromMask(row.typeMask()))
+                    .containsExactlyInAnyOrder(HolidayType.PUBLIC, HolidayType.BANK);
+        });
+        assertThat(syncStateRepository.findByCountryCodeAndYear("KR", 2024)).isPresent();
+    }
+
+    @Test
+    @DisplayName("같은 데이터로 병합하면 아무것도 변경하지 않는다")
+    void merge_NoChanges() {
+        // given
+        List<Holiday> incoming = List.of(
+                holiday(LocalDate.of(2024, 1, 1), "New Year's Day", "신정", EnumSet.of(HolidayType.PUBLIC)),
+                holiday(LocalDate.of(2024, 3, 1), "Independence Movement Day", "삼일절", EnumSet.of(HolidayType.PUBLIC)),
+                holiday(LocalDate.of(2024, 4, 10), "Election Day", "선거일", EnumSet.of(HolidayType.PUBLIC))
+        );
+        HolidaySyncState syncState = new HolidaySyncState("KR", 2024, "fingerprint", null, null);
+
+        // when
+        HolidayMergeResult result = holidayMerger.merge(korea, 2024, incoming, syncState);
+
+        // then
+        assertThat(result.hasChanges()).isFalse();
+    }
+
+    @Test
+    @DisplayName("삭제하면 해당 국가-연도의 공휴일과 동기화 이력을 함께 지운다")
+    void delete() {
+        // given
+        syncStateRepository.save(new HolidaySyncState("KR", 2024, "fingerprint", null, null));
+
+        // when
+        int deleted = holidayMerger.delete(korea, 2024);
+
+        // then
+        assertThat(deleted).isEqualTo(3);
+        assertThat(holidayBulkRepository.findRowsByCountryAndYear("KR", 2024)).isEmpty();
+        assertThat(syncStateRepository.findByCountryCodeAndYear("KR", 2024)).isEmpty();
+    }
+
+    private Map<String, HolidayRow> rowsByName() {
+        return holidayBulkRepository.findRowsByCountryAndYear("KR", 2024)
+                .stream()
+                .collect(Collectors.toMap(HolidayRow::name, Function.identity()));
+    }
+
+    private Holiday holiday(LocalDate date, String name, String localName, EnumSet<HolidayType> types) {
+        return new Holiday(korea, date, name, new HolidayDetail(true, true, localName, types));
+    }
+}
@@ -0,0 +1,100 @@
+package com.holidaymini.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holidaymini.controller.dto.HolidayResponse;
+import com.holidaymini.controller.dto.HolidaySearchFilter;
+import com.holidaymini.controller.dto.PageResponse;
+import com.holidaymini.domain.HolidayType;
+import com.holidaymini.service.HolidayPageBytesCache.SerializedPage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.util.unit.DataSize;
+
+@DisplayName("HolidayPageBytesCache 테스트")
+class HolidayPageBytesCacheTest {
+
+    private static final HolidaySearchFilter KOREA_2025 = new HolidaySearchFilter("KR", 2025, null, null, null);
+
+    private HolidayPageBytesCache pageBytesCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        pageBytesCache = new HolidayPageBytesCache(
+                new ObjectMapper().findAndRegisterModules(),
+                new SimpleMeterRegistry(),
+                DataSize.ofMegabytes(1),
+                Duration.ofMinutes(10),
+                true
+        );
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 버전의 같은 페이지는 한 번만 직렬화하고, gzip 본문은 JSON 본문과 같은 내용이다")
+    void get_SerializesOnce() throws IOException {
+        // when
+        SerializedPage first = pageBytesCache.get(KOREA_2025, 1L, PageRequest.of(0, 20), loader());
+        SerializedPage second = pageBytesCache.get(KOREA_2025, 1L, PageRequest.of(0, 20), loader());
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(first.json());
+        }
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌거나 국가-연도가 무효화되면 다시 직렬화한다")
+    void get_VersionAndInvalidate() {
+        // given
+        pageBytesCache.get(KOREA_2025, 1L, PageRequest.of(0, 20), loader());
+
+        // when
+        pageBytesCache.get(KOREA_2025, 2L, PageRequest.of(0, 20), loader());
+        pageBytesCache.invalidate("KR", 2025);
+        pageBytesCache.get(KOREA_2025, 2L, PageRequest.of(0, 20), loader());
+
+        // then
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("기간이나 유형 조건이 있는 검색은 캐시 대상이 아니다")
+    void cacheable() {
+        // then
+        assertThat(HolidayPageBytesCache.cacheable(KOREA_2025)).isTrue();
+        assertThat(HolidayPageBytesCache.cacheable(new HolidaySearchFilter("KR", 2025, null, null, HolidayType.BANK)))
+                .isFalse();
+        assertThat(HolidayPageBytesCache.cacheable(
+                new HolidaySearchFilter("KR", 2025, LocalDate.of(2025, 3, 1), null, null)
+        )).isFalse();
+    }
+
+    private Supplier<PageResponse<HolidayResponse>> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            HolidayResponse holiday = new HolidayResponse(
+                    1L, "New Year's Day", "신정", LocalDate.of(2025, 1, 1), 2025, "KR", "Korea",
+                    true, true, EnumSet.of(HolidayType.PUBLIC)
+            );
+            return new PageResponse<>(new PageImpl<>(List.of(holiday), PageRequest.of(0, 20), 1));
+        };
+    }
+}
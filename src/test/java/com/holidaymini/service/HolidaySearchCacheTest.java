@@ -0,0 +1,77 @@
+package com.holidaymini.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaymini.controller.dto.HolidayResponse;
+import com.holidaymini.controller.dto.HolidaySearchFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+@DisplayName("HolidaySearchCache 테스트")
+class HolidaySearchCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private HolidaySearchCache searchCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        searchCache = new HolidaySearchCache(meterRegistry, 100, Duration.ofMinutes(10));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("연도 경계를 덮는 기간은 조건이 없는 검색과 같은 캐시 항목을 사용한다")
+    void get_NormalizesDateRange() {
+        // given
+        HolidaySearchFilter withoutRange = new HolidaySearchFilter("KR", 2025, null, null, null);
+        HolidaySearchFilter wholeYear = new HolidaySearchFilter(
+                "KR", 2025, LocalDate.of(2024, 12, 1), LocalDate.of(2025, 12, 31), null
+        );
+
+        // when
+        searchCache.get(withoutRange, PageRequest.of(0, 10), loader());
+        searchCache.get(wholeYear, PageRequest.of(0, 10), loader());
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화는 해당 국가-연도만 다시 조회하게 한다")
+    void invalidate_OnlyAffectedCountryYear() {
+        // given
+        HolidaySearchFilter korea = new HolidaySearchFilter("KR", 2025, null, null, null);
+        HolidaySearchFilter unitedStates = new HolidaySearchFilter("US", 2025, null, null, null);
+        searchCache.get(korea, PageRequest.of(0, 10), loader());
+        searchCache.get(unitedStates, PageRequest.of(0, 10), loader());
+
+        // when
+        searchCache.invalidate("KR", 2025);
+        searchCache.get(korea, PageRequest.of(0, 10), loader());
+        searchCache.get(unitedStates, PageRequest.of(0, 10), loader());
+
+        // then
+        assertThat(loads).hasValue(3);
+    }
+
+    private Supplier<Page<HolidayResponse>> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
+        };
+    }
+}
@@ -0,0 +1,213 @@
+package com.holidaymini.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaymini.controller.dto.CountryHolidaysResponse;
+import com.holidaymini.controller.dto.HolidayBatchSearchRequest;
+import com.holidaymini.controller.dto.HolidayResponse;
+import com.holidaymini.controller.dto.HolidaySearchFilter;
+import com.holidaymini.domain.Country;
+import com.holidaymini.domain.Holiday;
+import com.holidaymini.domain.HolidayDetail;
+import com.holidaymini.domain.HolidayType;
+import com.holidaymini.repository.CountryRepository;
+import com.holidaymini.repository.HolidayBulkRepository;
+import com.holidaymini.repository.HolidayRepository;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("공휴일 검색 SQL 실행 횟수 테스트")
+class HolidaySearchStatementCountTest {
+
+    @Autowired
+    private HolidayService holidayService;
+
+    @Autowired
+    private HolidayIndex holidayIndex;
+
+    @Autowired
+    private CountryRegistry countryRegistry;
+
+    @Autowired
+    private HolidaySearchCache searchCache;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private HolidayBulkRepository holidayBulkRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        holidayRepository.deleteAll();
+        countryRepository.deleteAll();
+
+        Country korea = countryRepository.save(new Country("KR", "Korea"));
+        countryRepository.save(new Country("US", "United States"));
+        holidayBulkRepository.saveAll(IntStream.range(0, 25)
+                .mapToObj(day -> new Holiday(
+                        korea,
+                        LocalDate.of(2025, 1, 1).plusDays(day * 7L),
+                        "Holiday " + day,
+                        new HolidayDetail(true, true, "공휴일 " + day, EnumSet.of(HolidayType.PUBLIC, HolidayType.BANK))
+                ))
+                .toList());
+        countryRegistry.refresh();
+        resetReadPath();
+    }
+
+    @Test
+    @DisplayName("페이지 크기와 관계없이 처음 검색은 공휴일 조회 한 번으로 끝난다")
+    void coldSearch_ConstantStatements() {
+        // given
+        HolidaySearchFilter filter = new HolidaySearchFilter("KR", 2025, null, null, null);
+
+        // when
+        int singleRowStatements = countStatements(() -> holidayService.searchHolidays(filter, PageRequest.of(0, 1)));
+        resetReadPath();
+        int fullPageStatements = countStatements(() -> {
+            Page<HolidayResponse> page = holidayService.searchHolidays(filter, PageRequest.of(0, 20));
+            assertThat(page.getContent()).hasSize(20)
+                    .allSatisfy(holiday -> assertThat(holiday.types())
+                            .containsExactlyInAnyOrder(HolidayType.PUBLIC, HolidayType.BANK));
+        });
+
+        // then
+        assertThat(singleRowStatements).isEqualTo(1);
+        assertThat(fullPageStatements).isEqualTo(singleRowStatements);
+    }
+
+    @Test
+    @DisplayName("같은 검색을 반복하면 데이터베이스를 조회하지 않는다")
+    void warmSearch_NoStatements() {
+        // given
+        HolidaySearchFilter filter = new HolidaySearchFilter("KR", 2025, null, null, HolidayType.BANK);
+        holidayService.searchHolidays(filter, PageRequest.of(0, 20));
+
+        // when
+        int statements = countStatements(() -> holidayService.searchHolidays(filter, PageRequest.of(0, 20)));
+
+        // then
+        assertThat(statements).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 국가와 연도를 묶은 검색도 처음 한 번의 조회로 끝난다")
+    void coldBatchSearch_SingleStatement() {
+        // given
+        HolidayBatchSearchRequest request = new HolidayBatchSearchRequest(List.of("KR", "US"), 2023, 2025, null);
+
+        // when
+        int statements = countStatements(() -> {
+            List<CountryHolidaysResponse> result = holidayService.searchBatch(request);
+            assertThat(result.get(0).holidays()).hasSize(25);
+            assertThat(result.get(1).holidays()).isEmpty();
+        });
+
+        // then
+        assertThat(statements).isEqualTo(1);
+        assertThat(countStatements(() -> holidayService.searchBatch(request))).isZero();
+    }
+
+    private void resetReadPath() {
+        holidayIndex.clear();
+        searchCache.invalidateAll();
+    }
+
+    private int countStatements(Runnable action) {
+        StatementCountingDataSource counting = (StatementCountingDataSource) dataSource;
+        counting.reset();
+        action.run();
+        return counting.count();
+    }
+
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource target && !(bean instanceof StatementCountingDataSource)) {
+                        return new StatementCountingDataSource(target);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    static class StatementCountingDataSource extends DelegatingDataSource {
+
+        private final AtomicInteger statements = new AtomicInteger();
+
+        StatementCountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return counting(super.getConnection(username, password));
+        }
+
+        void reset() {
+            statements.set(0);
+        }
+
+        int count() {
+            return statements.get();
+        }
+
+        private Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("prepare") || name.equals("createStatement")) {
+                            statements.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+            );
+        }
+    }
+}
@@ -3,6 +3,10 @@ package com.holidaymini.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.holidaymini.controller.dto.CountryHolidaysResponse;
+import com.holidaymini.controller.dto.HolidayBatchSearchRequest;
+import com.holidaymini.controller.dto.HolidayLookupRequest;
+import com.holidaymini.controller.dto.HolidayResponse;
 import com.holidaymini.controller.dto.HolidaySearchFilter;
 import com.holidaymini.domain.Country;
 import com.holidaymini.domain.Holiday;
@@ -14,6 +18,7 @@ import com.holidaymini.repository.CountryRepository;
 import com.holidaymini.repository.HolidayRepository;
 import java.time.LocalDate;
 import java.util.EnumSet;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,6 +43,18 @@ class HolidayServiceTest {
     @Autowired
     private HolidayRepository holidayRepository;
 
+    @Autowired
+    private HolidayIndex holidayIndex;
+
+    @Autowired
+    private CountryRegistry countryRegistry;
+
+    @Autowired
+    private HolidaySearchCache searchCache;
+
+    @Autowired
+    private HolidayDateIndex holidayDateIndex;
+
     @BeforeEach
     void setUp() {
         // 초기 데이터 삭제
@@ -71,6 +88,12 @@ class HolidayServiceTest {
         // KR 2022 공휴일 1건
         HolidayDetail detail5 = new HolidayDetail(true, false, "설날(22)", EnumSet.of(HolidayType.PUBLIC));
         holidayRepository.save(new Holiday(kr, LocalDate.of(2022, 2, 1), "Lunar New Year 2022", detail5));
+
+        // 리포지토리로 직접 넣은 데이터는 변경 이벤트가 없으므로 국가 목록을 다시 읽고 인덱스와 캐시를 비운다
+        countryRegistry.refresh();
+        holidayIndex.clear();
+        searchCache.invalidateAll();
+        holidayDateIndex.clear();
     }
 
     @Test
@@ -81,12 +104,12 @@ class HolidayServiceTest {
         PageRequest pr = PageRequest.of(0, 10, Sort.by("date").ascending());
 
         // when
-        Page<Holiday> result = holidayService.searchHolidays(filter, pr);
+        Page<HolidayResponse> result = holidayService.searchHolidays(filter, pr);
 
         // then
         assertThat(result.getTotalElements()).isEqualTo(3);
         assertThat(result.getTotalPages()).isEqualTo(1);
-        assertThat(result.getContent()).extracting(Holiday::getName)
+        assertThat(result.getContent()).extracting(HolidayResponse::name)
                 .containsExactlyInAnyOrder("Lunar New Year", "Chuseok", "Dobby Birthday");
     }
 
@@ -130,11 +153,11 @@ class HolidayServiceTest {
         PageRequest pr = PageRequest.of(0, 10, Sort.by("date"));
 
         // when
-        Page<Holiday> result = holidayService.searchHolidays(filter, pr);
+        Page<HolidayResponse> result = holidayService.searchHolidays(filter, pr);
 
         // then
         assertThat(result.getTotalElements()).isEqualTo(1);
-        assertThat(result.getContent().get(0).getName()).isEqualTo("Dobby Birthday");
+        assertThat(result.getContent().get(0).name()).isEqualTo("Dobby Birthday");
     }
 
     @Test
@@ -145,11 +168,107 @@ class HolidayServiceTest {
         PageRequest pr = PageRequest.of(0, 10, Sort.by("date"));
 
         // when
-        Page<Holiday> result = holidayService.searchHolidays(filter, pr);
+        Page<HolidayResponse> result = holidayService.searchHolidays(filter, pr);
 
         // then
         assertThat(result.getTotalElements()).isEqualTo(1);
-        assertThat(result.getContent()).extracting(Holiday::getName)
+        assertThat(result.getContent()).extracting(HolidayResponse::name)
                 .containsExactly("Dobby Birthday");
     }
+
+    @Test
+    @DisplayName("커서로 이어서 조회하면 다음 공휴일부터 반환한다")
+    void testScroll() {
+        // given
+        HolidaySearchFilter filter = new HolidaySearchFilter("KR", 2025, null, null, null);
+        HolidayScroll first = holidayService.scrollHolidays(filter, null, 2);
+
+        // when
+        HolidayScroll second = holidayService.scrollHolidays(filter, first.next().encode(), 2);
+
+        // then
+        assertThat(first.content()).extracting(HolidayResponse::name)
+                .containsExactly("Lunar New Year", "Dobby Birthday");
+        assertThat(second.content()).extracting(HolidayResponse::name)
+                .containsExactly("Chuseok");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 커서로 조회 시 BadRequestException이 발생한다")
+    void testScroll_InvalidCursor() {
+        // given
+        HolidaySearchFilter filter = new HolidaySearchFilter("KR", 2025, null, null, null);
+
+        // then
+        assertThatThrownBy(() -> holidayService.scrollHolidays(filter, "not-a-cursor", 10))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("잘못된 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("여러 국가와 연도 범위를 한 번에 조회하면 국가별로 날짜순으로 묶어 반환한다")
+    void testSearchBatch() {
+        // given
+        HolidayBatchSearchRequest request = new HolidayBatchSearchRequest(List.of("US", "KR"), 2024, 2025, null);
+
+        // when
+        List<CountryHolidaysResponse> result = holidayService.searchBatch(request);
+
+        // then
+        assertThat(result).extracting(CountryHolidaysResponse::countryCode).containsExactly("US", "KR");
+        assertThat(result.get(0).holidays()).extracting(HolidayResponse::name).containsExactly("Fourth of July");
+        assertThat(result.get(1).holidays()).extracting(HolidayResponse::date).containsExactly(
+                LocalDate.of(2024, 2, 14),
+                LocalDate.of(2025, 2, 12),
+                LocalDate.of(2025, 2, 14),
+                LocalDate.of(2025, 9, 21)
+        );
+    }
+
+    @Test
+    @DisplayName("시작 연도가 종료 연도보다 늦으면 BadRequestException이 발생한다")
+    void testSearchBatch_InvalidYearRange() {
+        // given
+        HolidayBatchSearchRequest request = new HolidayBatchSearchRequest(List.of("KR"), 2025, 2023, null);
+
+        // then
+        assertThatThrownBy(() -> holidayService.searchBatch(request))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("시작 연도가 종료 연도보다 늦습니다.");
+    }
+
+    @Test
+    @DisplayName("여러 (국가, 날짜) 쌍의 공휴일 여부를 요청 순서대로 반환한다")
+    void testLookupHolidays() {
+        // given
+        HolidayLookupRequest request = new HolidayLookupRequest(List.of(
+                new HolidayLookupRequest.Item("KR", LocalDate.of(2025, 2, 12)),
+                new HolidayLookupRequest.Item("KR", LocalDate.of(2025, 2, 13)),
+                new HolidayLookupRequest.Item("US", LocalDate.of(2025, 7, 4)),
+                new HolidayLookupRequest.Item("US", LocalDate.of(2025, 2, 12)),
+                new HolidayLookupRequest.Item("KR", LocalDate.of(2020, 2, 14))
+        ));
+
+        // when
+        boolean[] result = holidayService.lookupHolidays(request);
+
+        // then
+        assertThat(result).containsExactly(true, false, true, false, true);
+    }
+
+    @Test
+    @DisplayName("대량 확인에 등록되지 않은 국가가 있으면 BadRequestException이 발생한다")
+    void testLookupHolidays_UnknownCountry() {
+        // given
+        HolidayLookupRequest request = new HolidayLookupRequest(List.of(
+                new HolidayLookupRequest.Item("KR", LocalDate.of(2025, 2, 12)),
+                new HolidayLookupRequest.Item("XX", LocalDate.of(2025, 2, 12))
+        ));
+
+        // then
+        assertThatThrownBy(() -> holidayService.lookupHolidays(request))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("등록되지 않은 국가 코드입니다: XX");
+    }
 }
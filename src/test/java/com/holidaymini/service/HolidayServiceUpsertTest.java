@@ -0,0 +1,162 @@
+package com.holidaymini.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.holidaymini.config.HolidayYearProperties;
+import com.holidaymini.domain.Country;
+import com.holidaymini.repository.HolidaySyncStateRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidayService 동시 갱신 테스트")
+class HolidayServiceUpsertTest {
+
+    @Mock
+    private NagerDataLoadService nagerDataLoadService;
+
+    @Mock
+    private HolidaySyncStateRepository syncStateRepository;
+
+    @Mock
+    private CountryRegistry countryRegistry;
+
+    private HolidayYearLoader yearLoader;
+
+    private HolidayService holidayService;
+
+    private ExecutorService executor;
+
+    private final Country korea = new Country("KR", "Korea");
+    private final Country japan = new Country("JP", "Japan");
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        HolidayYearProperties yearProperties = new HolidayYearProperties(2020, 2025, null, null, true);
+        yearLoader = new HolidayYearLoader(nagerDataLoadService, null, syncStateRepository, yearProperties);
+        yearLoader.onApplicationReady();
+        holidayService = new HolidayService(
+                countryRegistry, null, null, null, null, yearLoader, yearProperties
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 국가-연도 갱신이 동시에 들어오면 공급자 호출과 병합은 한 번이고 결과를 함께 받는다")
+    void upsert_SameKey() throws Exception {
+        // given
+        HolidayMergeResult merged = new HolidayMergeResult(3, 1, 0);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(countryRegistry.find("KR")).thenReturn(Optional.of(korea));
+        when(nagerDataLoadService.refreshHolidaysByCountryAndYear(korea, 2025)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return merged;
+        });
+
+        // when
+        CompletableFuture<HolidayMergeResult> first = upsertAsync("KR");
+        started.await(5, TimeUnit.SECONDS);
+        List<CompletableFuture<HolidayMergeResult>> followers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            followers.add(upsertAsync("KR"));
+        }
+        awaitWaiting("KR", 8);
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(merged);
+        for (CompletableFuture<HolidayMergeResult> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(merged);
+        }
+        verify(nagerDataLoadService, times(1)).refreshHolidaysByCountryAndYear(korea, 2025);
+    }
+
+    @Test
+    @DisplayName("첫 조회의 지연 적재가 진행 중이면 같은 국가-연도 갱신은 새로 병합하지 않고 그 결과를 받는다")
+    void upsert_DuringLazyLoad() throws Exception {
+        // given
+        HolidayMergeResult merged = new HolidayMergeResult(5, 0, 0);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(countryRegistry.find("KR")).thenReturn(Optional.of(korea));
+        when(syncStateRepository.findByCountryCodeAndYear("KR", 2025)).thenReturn(Optional.empty());
+        when(nagerDataLoadService.refreshHolidaysByCountryAndYear(korea, 2025)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return merged;
+        });
+
+        // when
+        CompletableFuture<Void> lazyLoad = CompletableFuture.runAsync(
+                () -> yearLoader.ensureLoaded(korea, 2025), executor
+        );
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<HolidayMergeResult> upsert = upsertAsync("KR");
+        awaitWaiting("KR", 1);
+        release.countDown();
+
+        // then
+        lazyLoad.get(5, TimeUnit.SECONDS);
+        assertThat(upsert.get(5, TimeUnit.SECONDS)).isEqualTo(merged);
+        verify(nagerDataLoadService, times(1)).refreshHolidaysByCountryAndYear(korea, 2025);
+    }
+
+    @Test
+    @DisplayName("다른 국가-연도 갱신은 진행 중인 갱신을 기다리지 않는다")
+    void upsert_DifferentKeys() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(countryRegistry.find("KR")).thenReturn(Optional.of(korea));
+        when(countryRegistry.find("JP")).thenReturn(Optional.of(japan));
+        when(nagerDataLoadService.refreshHolidaysByCountryAndYear(korea, 2025)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return HolidayMergeResult.UNCHANGED;
+        });
+        when(nagerDataLoadService.refreshHolidaysByCountryAndYear(japan, 2025))
+                .thenReturn(new HolidayMergeResult(1, 0, 0));
+
+        // when
+        CompletableFuture<HolidayMergeResult> blocked = upsertAsync("KR");
+        HolidayMergeResult other = upsertAsync("JP").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(other).isEqualTo(new HolidayMergeResult(1, 0, 0));
+        release.countDown();
+        assertThat(blocked.get(5, TimeUnit.SECONDS)).isEqualTo(HolidayMergeResult.UNCHANGED);
+    }
+
+    private CompletableFuture<HolidayMergeResult> upsertAsync(String countryCode) {
+        return CompletableFuture.supplyAsync(() -> holidayService.upsertByCountryCodeAndYear(countryCode, 2025), executor);
+    }
+
+    // 뒤따른 호출이 모두 진행 중인 갱신에 붙은 뒤에 첫 호출을 끝낸다
+    private void awaitWaiting(String countryCode, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (yearLoader.waiting(countryCode, 2025) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
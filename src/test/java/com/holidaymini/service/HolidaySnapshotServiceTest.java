@@ -0,0 +1,164 @@
+package com.holidaymini.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaymini.domain.Country;
+import com.holidaymini.domain.Holiday;
+import com.holidaymini.domain.HolidayDetail;
+import com.holidaymini.domain.HolidaySyncState;
+import com.holidaymini.domain.HolidayType;
+import com.holidaymini.repository.CountryRepository;
+import com.holidaymini.repository.HolidayBulkRepository;
+import com.holidaymini.repository.HolidayRepository;
+import com.holidaymini.repository.HolidaySyncStateRepository;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = "data-loader.snapshot.enabled=true")
+@ActiveProfiles("test")
+@DisplayName("HolidaySnapshotService 테스트")
+class HolidaySnapshotServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Autowired
+    private HolidaySnapshotService snapshotService;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private HolidayBulkRepository holidayBulkRepository;
+
+    @Autowired
+    private HolidaySyncStateRepository syncStateRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Path snapshotPath;
+
+    @BeforeEach
+    void setUp() {
+        clearAll();
+
+        snapshotPath = tempDir.resolve("holiday-snapshot.bin");
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(snapshotService), "path", snapshotPath);
+
+        Country korea = countryRepository.save(new Country("KR", "Korea"));
+        holidayBulkRepository.saveAll(List.of(
+                new Holiday(korea, LocalDate.of(2024, 1, 1), "New Year's Day",
+                        new HolidayDetail(true, true, "신정", EnumSet.of(HolidayType.PUBLIC))),
+                new Holiday(korea, LocalDate.of(2024, 5, 5), "Children's Day",
+                        new HolidayDetail(true, false, "어린이날", EnumSet.of(HolidayType.PUBLIC, HolidayType.SCHOOL)))
+        ));
+        syncStateRepository.save(new HolidaySyncState("KR", 2024, "fingerprint", "\"etag\"", null));
+    }
+
+    @Test
+    @DisplayName("스냅샷을 저장한 뒤 빈 데이터베이스에 그대로 복원한다")
+    void writeAndRestore() {
+        // given
+        snapshotService.write(2020, 2025);
+        clearAll();
+
+        // when
+        boolean restored = snapshotService.restore(2020, 2025);
+
+        // then
+        assertThat(restored).isTrue();
+        assertThat(countryRepository.findById("KR")).isPresent();
+        assertThat(syncStateRepository.findByCountryCodeAndYear("KR", 2024))
+                .hasValueSatisfying(state -> assertThat(state.getEtag()).isEqualTo("\"etag\""));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Holiday> holidays = holidayRepository.findByCountryAndYear(new Country("KR", "Korea"), 2024);
+            assertThat(holidays).extracting(Holiday::getName)
+                    .containsExactlyInAnyOrder("New Year's Day", "Children's Day");
+            assertThat(holidays)
+                    .filteredOn(holiday -> holiday.getName().equals("Children's Day"))
+                    .singleElement()
+                    .satisfies(holiday -> {
+                        assertThat(holiday.getDetail().getIsGlobal()).isFalse();
+                        assertThat(holiday.getDetail().getTypes())
+                                .containsExactlyInAnyOrder(HolidayType.PUBLIC, HolidayType.SCHOOL);
+                    });
+        });
+    }
+
+    @Test
+    @DisplayName("체크섬이 맞지 않는 스냅샷은 복원하지 않는다")
+    void restore_CorruptedSnapshot() throws IOException {
+        // given
+        snapshotService.write(2020, 2025);
+        clearAll();
+        try (RandomAccessFile file = new RandomAccessFile(snapshotPath.toFile(), "rw")) {
+            file.seek(file.length() / 2);
+            int original = file.read();
+            file.seek(file.length() / 2);
+            file.write(original ^ 0xFF);
+        }
+
+        // when
+        boolean restored = snapshotService.restore(2020, 2025);
+
+        // then
+        assertThat(restored).isFalse();
+        assertThat(countryRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("적재 연도 범위가 다른 스냅샷은 복원하지 않는다")
+    void restore_DifferentYearRange() {
+        // given
+        snapshotService.write(2020, 2025);
+        clearAll();
+
+        // when
+        boolean restored = snapshotService.restore(2020, 2026);
+
+        // then
+        assertThat(restored).isFalse();
+    }
+
+    @Test
+    @DisplayName("체크섬은 맞지만 저장 중 실패한 스냅샷은 모두 되돌리고 복원하지 않는다")
+    void restore_FailsWhileSaving() {
+        // given
+        snapshotService.write(2020, 2025);
+        holidayRepository.deleteAll();
+        countryRepository.deleteAll();
+
+        // when
+        boolean restored = snapshotService.restore(2020, 2025);
+
+        // then
+        assertThat(restored).isFalse();
+        assertThat(countryRepository.count()).isZero();
+        assertThat(holidayBulkRepository.findRowsByCountryAndYear("KR", 2024)).isEmpty();
+    }
+
+    private void clearAll() {
+        holidayRepository.deleteAll();
+        countryRepository.deleteAll();
+        syncStateRepository.deleteAll();
+    }
+}
@@ -0,0 +1,252 @@
+package com.holidaymini.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.holidaymini.config.HolidayYearProperties;
+import com.holidaymini.domain.Country;
+import com.holidaymini.domain.HolidaySyncState;
+import com.holidaymini.exception.ServiceUnavailableException;
+import com.holidaymini.repository.HolidaySyncStateRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidayYearLoader 테스트")
+class HolidayYearLoaderTest {
+
+    @Mock
+    private NagerDataLoadService dataLoadService;
+
+    @Mock
+    private HolidayMerger holidayMerger;
+
+    @Mock
+    private HolidaySyncStateRepository syncStateRepository;
+
+    private ExecutorService executor;
+
+    private final Country korea = new Country("KR", "Korea");
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 국가-연도를 동시에 요청하면 공급자는 한 번만 호출한다")
+    void ensureLoaded_Concurrent() throws Exception {
+        // given
+        HolidayYearLoader loader = loader(true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(syncStateRepository.findByCountryCodeAndYear("KR", 2030)).thenReturn(Optional.empty());
+        when(dataLoadService.refreshHolidaysByCountryAndYear(korea, 2030)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return HolidayMergeResult.UNCHANGED;
+        });
+
+        // when
+        List<CompletableFuture<Void>> calls = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            calls.add(CompletableFuture.runAsync(() -> loader.ensureLoaded(korea, 2030), executor));
+        }
+        started.await(5, TimeUnit.SECONDS);
+        awaitWaiting(loader, 15);
+        release.countDown();
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // then
+        verify(dataLoadService, times(1)).refreshHolidaysByCountryAndYear(korea, 2030);
+    }
+
+    @Test
+    @DisplayName("동기화 이력이 있는 국가-연도는 공급자를 부르지 않는다")
+    void ensureLoaded_AlreadySynced() {
+        // given
+        HolidayYearLoader loader = loader(true);
+        when(syncStateRepository.findByCountryCodeAndYear("KR", 2024))
+                .thenReturn(Optional.of(new HolidaySyncState("KR", 2024, "fingerprint", null, null)));
+
+        // when
+        loader.ensureLoaded(korea, 2024);
+        loader.ensureLoaded(korea, 2024);
+
+        // then
+        verify(syncStateRepository, times(1)).findByCountryCodeAndYear("KR", 2024);
+        verify(dataLoadService, never()).refreshHolidaysByCountryAndYear(any(Country.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("삭제한 국가-연도는 조회로 다시 불러오지 않고 갱신 요청으로만 다시 불러온다")
+    void ensureLoaded_AfterDelete() {
+        // given
+        HolidayYearLoader loader = loader(true);
+        loader.delete(korea, 2030);
+
+        // when
+        loader.ensureLoaded(korea, 2030);
+        loader.refresh(korea, 2030);
+
+        // then
+        verify(syncStateRepository, never()).findByCountryCodeAndYear("KR", 2030);
+        verify(dataLoadService, times(1)).refreshHolidaysByCountryAndYear(korea, 2030);
+    }
+
+    @Test
+    @DisplayName("진행 중인 갱신이 있으면 삭제는 갱신이 끝난 뒤에 실행한다")
+    void delete_DuringRefresh() throws Exception {
+        // given
+        HolidayYearLoader loader = loader(true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(dataLoadService.refreshHolidaysByCountryAndYear(korea, 2030)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return HolidayMergeResult.UNCHANGED;
+        });
+        CompletableFuture<HolidayMergeResult> refresh = CompletableFuture.supplyAsync(
+                () -> loader.refresh(korea, 2030), executor
+        );
+        started.await(5, TimeUnit.SECONDS);
+
+        // when
+        CompletableFuture<Integer> delete = CompletableFuture.supplyAsync(() -> loader.delete(korea, 2030), executor);
+        awaitQueued(loader, 1);
+        verify(holidayMerger, never()).delete(korea, 2030);
+        release.countDown();
+
+        // then
+        refresh.get(5, TimeUnit.SECONDS);
+        delete.get(5, TimeUnit.SECONDS);
+        InOrder order = inOrder(dataLoadService, holidayMerger);
+        order.verify(dataLoadService).refreshHolidaysByCountryAndYear(korea, 2030);
+        order.verify(holidayMerger).delete(korea, 2030);
+    }
+
+    @Test
+    @DisplayName("이력을 확인한 뒤 같은 국가-연도 삭제가 먼저 끝나면 지연 적재는 공급자를 부르지 않는다")
+    void ensureLoaded_DeletedWhileWaiting() throws Exception {
+        // given
+        HolidayYearLoader loader = loader(true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(syncStateRepository.findByCountryCodeAndYear("KR", 2030)).thenReturn(Optional.empty());
+        when(holidayMerger.delete(korea, 2030)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 3;
+        });
+        CompletableFuture<Integer> delete = CompletableFuture.supplyAsync(() -> loader.delete(korea, 2030), executor);
+        started.await(5, TimeUnit.SECONDS);
+
+        // when
+        CompletableFuture<Void> lazyLoad = CompletableFuture.runAsync(() -> loader.ensureLoaded(korea, 2030), executor);
+        awaitQueued(loader, 1);
+        release.countDown();
+
+        // then
+        delete.get(5, TimeUnit.SECONDS);
+        lazyLoad.get(5, TimeUnit.SECONDS);
+        verify(dataLoadService, never()).refreshHolidaysByCountryAndYear(any(Country.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("공급자 호출이 실패하면 적재된 것으로 표시하지 않고 다음 조회 때 다시 불러온다")
+    void ensureLoaded_Failure() {
+        // given
+        HolidayYearLoader loader = loader(true);
+        when(syncStateRepository.findByCountryCodeAndYear("KR", 2030)).thenReturn(Optional.empty());
+        when(dataLoadService.refreshHolidaysByCountryAndYear(korea, 2030))
+                .thenThrow(new ServiceUnavailableException("공휴일 조회 실패"))
+                .thenReturn(HolidayMergeResult.UNCHANGED);
+
+        // when
+        assertThatThrownBy(() -> loader.ensureLoaded(korea, 2030)).isInstanceOf(ServiceUnavailableException.class);
+        loader.ensureLoaded(korea, 2030);
+
+        // then
+        verify(dataLoadService, times(2)).refreshHolidaysByCountryAndYear(korea, 2030);
+    }
+
+    @Test
+    @DisplayName("시작 적재가 끝나기 전에는 불러오지 않는다")
+    void ensureLoaded_BeforeReady() {
+        // given
+        HolidayYearLoader loader = new HolidayYearLoader(
+                dataLoadService, holidayMerger, syncStateRepository, new HolidayYearProperties(2020, 2035, 2020, 2025, true)
+        );
+
+        // when
+        loader.ensureLoaded(korea, 2030);
+
+        // then
+        verify(syncStateRepository, never()).findByCountryCodeAndYear(anyString(), anyInt());
+        verify(dataLoadService, never()).refreshHolidaysByCountryAndYear(any(Country.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("지연 적재를 끄면 아무것도 불러오지 않는다")
+    void ensureLoaded_Disabled() {
+        // given
+        HolidayYearLoader loader = loader(false);
+
+        // when
+        loader.ensureLoaded(korea, 2030);
+
+        // then
+        verify(syncStateRepository, never()).findByCountryCodeAndYear(anyString(), eq(2030));
+        verify(dataLoadService, never()).refreshHolidaysByCountryAndYear(any(Country.class), anyInt());
+    }
+
+    private HolidayYearLoader loader(boolean lazyLoad) {
+        HolidayYearProperties properties = new HolidayYearProperties(2020, 2035, 2020, 2025, lazyLoad);
+        HolidayYearLoader loader = new HolidayYearLoader(dataLoadService, holidayMerger, syncStateRepository, properties);
+        loader.onApplicationReady();
+        return loader;
+    }
+
+    // 뒤따른 호출이 모두 진행 중인 적재에 붙은 뒤에 첫 호출을 끝낸다
+    private static void awaitWaiting(HolidayYearLoader loader, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loader.waiting("KR", 2030) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    // 뒤따른 호출이 같은 국가-연도의 잠금을 기다리기 시작한 뒤에 앞선 작업을 끝낸다
+    private static void awaitQueued(HolidayYearLoader loader, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loader.queued("KR", 2030) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.holidaymini.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.holidaymini.domain.Country;
+import com.holidaymini.domain.Holiday;
+import com.holidaymini.domain.HolidayDetail;
+import com.holidaymini.domain.HolidaySyncState;
+import com.holidaymini.domain.HolidayType;
+import com.holidaymini.exception.ServiceUnavailableException;
+import com.holidaymini.external.nager.NagerAsyncClient;
+import com.holidaymini.external.nager.NagerDateClient;
+import com.holidaymini.external.resilience.AimdLimiter;
+import com.holidaymini.external.resilience.CircuitBreaker;
+import com.holidaymini.external.resilience.RetryBackoff;
+import com.holidaymini.external.resilience.UpstreamGuard;
+import com.holidaymini.repository.CountryRepository;
+import com.holidaymini.repository.HolidayBulkRepository;
+import com.holidaymini.repository.HolidayRepository;
+import com.holidaymini.repository.HolidaySyncStateRepository;
+import com.holidaymini.repository.dto.HolidayRow;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("NagerDataLoadService 테스트")
+class NagerDataLoadServiceTest {
+
+    @Autowired
+    private NagerDataLoadService nagerDataLoadService;
+
+    @Autowired
+    private NagerAsyncClient nagerAsyncClient;
+
+    @Autowired
+    private HolidayMerger holidayMerger;
+
+    @Autowired
+    private LoaderThrottle loaderThrottle;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private HolidayBulkRepository holidayBulkRepository;
+
+    @Autowired
+    private HolidaySyncStateRepository syncStateRepository;
+
+    private Country korea;
+
+    @BeforeEach
+    void setUp() {
+        holidayRepository.deleteAll();
+        countryRepository.deleteAll();
+        syncStateRepository.deleteAll();
+
+        korea = countryRepository.save(new Country("KR", "Korea"));
+        holidayBulkRepository.saveAll(List.of(new Holiday(
+                korea,
+                LocalDate.of(2024, 1, 1),
+                "New Year's Day",
+                new HolidayDetail(true, true, "신정", EnumSet.of(HolidayType.PUBLIC))
+        )));
+        syncStateRepository.save(new HolidaySyncState("KR", 2024, "fingerprint", "\"v1\"", null));
+    }
+
+    @Test
+    @DisplayName("공휴일 조회가 4xx로 실패하면 병합하지 않고 저장된 공휴일과 동기화 이력을 그대로 둔다")
+    void refresh_ClientError_KeepsStoredRows() {
+        // given
+        NagerDataLoadService dataLoadService = dataLoadService(failingRestClient());
+
+        // when & then
+        assertThatThrownBy(() -> dataLoadService.refreshHolidaysByCountryAndYear(korea, 2024))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        assertThat(holidayBulkRepository.findRowsByCountryAndYear("KR", 2024))
+                .extracting(HolidayRow::name)
+                .containsExactly("New Year's Day");
+        assertThat(syncStateRepository.findByCountryCodeAndYear("KR", 2024))
+                .hasValueSatisfying(state -> assertThat(state.hasFingerprint("fingerprint")).isTrue());
+    }
+
+    @Test
+    @DisplayName("적재 묶음의 동기화 이력 저장이 실패하면 같은 묶음의 공휴일도 저장하지 않는다")
+    void saveBatch_SyncStateConflict_RollsBackRows() {
+        // given
+        HolidayRow row = new HolidayRow(
+                0L, "KR", LocalDate.of(2024, 5, 5), "Children's Day", "어린이날", true, true, HolidayType.PUBLIC.mask()
+        );
+        HolidaySyncState duplicated = new HolidaySyncState("KR", 2024, "other", null, null);
+
+        // when & then
+        assertThatThrownBy(() -> nagerDataLoadService.saveBatch(List.of(row), List.of(duplicated)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(holidayBulkRepository.findRowsByCountryAndYear("KR", 2024))
+                .extracting(HolidayRow::name)
+                .containsExactly("New Year's Day");
+    }
+
+    private NagerDataLoadService dataLoadService(RestClient restClient) {
+        UpstreamGuard upstreamGuard = new UpstreamGuard(
+                new AimdLimiter(4, 1, 4, 0.5),
+                new RetryBackoff(1, Duration.ZERO, Duration.ZERO),
+                new CircuitBreaker(5, Duration.ofSeconds(30))
+        );
+        return new NagerDataLoadService(
+                new NagerDateClient(restClient, upstreamGuard),
+                nagerAsyncClient,
+                countryRepository,
+                holidayBulkRepository,
+                holidayMerger,
+                syncStateRepository,
+                loaderThrottle,
+                eventPublisher
+        );
+    }
+
+    // 4xx 응답 처리기가 던지는 예외를 그대로 흉내 낸다
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static RestClient failingRestClient() {
+        RestClient restClient = mock(RestClient.class);
+        RestClient.RequestHeadersUriSpec uriSpec = mock(RestClient.RequestHeadersUriSpec.class);
+        RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
+
+        when(restClient.get()).thenReturn(uriSpec);
+        when(uriSpec.uri("/PublicHolidays/{year}/{countryCode}", 2024, "KR")).thenReturn(uriSpec);
+        when(uriSpec.headers(any())).thenReturn(uriSpec);
+        when(uriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.onStatus(any(), any())).thenReturn(responseSpec);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class)))
+                .thenThrow(new RestClientException("클라이언트 오류"));
+        return restClient;
+    }
+}
@@ -0,0 +1,132 @@
+package com.holidaymini.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.holidaymini.exception.ServiceUnavailableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("실행 중인 키로 들어온 호출은 작업을 다시 실행하지 않고 같은 결과를 받는다")
+    void execute_SameKey() throws Exception {
+        // given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> singleFlight.execute("KR:2030", () -> {
+            executions.incrementAndGet();
+            await(release);
+            return 42;
+        }), executor);
+        while (singleFlight.inFlight() == 0) {
+            Thread.onSpinWait();
+        }
+        List<CompletableFuture<Integer>> waiters = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            waiters.add(CompletableFuture.supplyAsync(() -> singleFlight.execute("KR:2030", () -> {
+                executions.incrementAndGet();
+                return -1;
+            }), executor));
+        }
+        // 기다리는 호출이 모두 붙은 뒤에 첫 작업을 끝낸다
+        while (singleFlight.waiting("KR:2030") < 8) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        for (CompletableFuture<Integer> waiter : waiters) {
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 기다리던 호출도 같은 예외를 받고, 다음 호출은 다시 실행한다")
+    void execute_Failure() throws Exception {
+        // given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> singleFlight.execute("KR:2030", () -> {
+            await(release);
+            throw new ServiceUnavailableException("공급자 응답 없음");
+        }), executor);
+        while (singleFlight.inFlight() == 0) {
+            Thread.onSpinWait();
+        }
+        CompletableFuture<Integer> waiter = CompletableFuture.supplyAsync(
+                () -> singleFlight.execute("KR:2030", () -> 0), executor
+        );
+
+        // when
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+        assertThat(singleFlight.execute("KR:2030", () -> 7)).isEqualTo(7);
+        assertThat(waiter.handle((result, e) -> result != null || e.getCause() instanceof ServiceUnavailableException)
+                .get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("키가 다르면 서로 기다리지 않는다")
+    void execute_DifferentKeys() throws Exception {
+        // given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> blocked = CompletableFuture.supplyAsync(() -> singleFlight.execute("KR:2030", () -> {
+            await(release);
+            return 1;
+        }), executor);
+
+        // when
+        Integer other = CompletableFuture.supplyAsync(() -> singleFlight.execute("JP:2030", () -> 2), executor)
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(other).isEqualTo(2);
+        release.countDown();
+        assertThat(blocked.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}